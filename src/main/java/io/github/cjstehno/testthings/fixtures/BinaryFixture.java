@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.fixtures;
+
+import io.github.cjstehno.testthings.rando.SharedRandom;
+import lombok.Getter;
+import lombok.val;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.SPARSE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A generator of binary file fixtures filled with random content. The content is generated into a direct buffer and
+ * streamed to the file in blocks, so files of any size (e.g. multiple gigabytes) may be generated without holding their
+ * content in memory.
+ *
+ * The content is deterministic for a given seed - if no seed is specified, one is drawn from the {@link SharedRandom}
+ * (so that the content is pinned along with the other random values of a test). Sparse regions may be specified, which
+ * are left as zeros (and as holes in the file, where the file system supports it).
+ *
+ * <pre>
+ * val path = binaryFixture(5L * 1024 * 1024 * 1024).seed(8675309L).sparse(1024, 4096).writeTo(file);
+ * </pre>
+ */
+public final class BinaryFixture {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * The size of the generated file, in bytes.
+     */
+    @Getter private final long size;
+
+    private final List<long[]> sparseRegions = new ArrayList<>();
+    private Long seed;
+
+    private BinaryFixture(final long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size must not be negative.");
+        }
+        this.size = size;
+    }
+
+    /**
+     * Creates a binary fixture of the specified size.
+     *
+     * @param size the size of the generated file, in bytes
+     * @return the fixture
+     */
+    public static BinaryFixture binaryFixture(final long size) {
+        return new BinaryFixture(size);
+    }
+
+    /**
+     * Specifies the seed used to generate the content.
+     *
+     * @param seed the seed (must be greater than zero)
+     * @return the fixture
+     */
+    public BinaryFixture seed(final long seed) {
+        if (seed < 1) {
+            throw new IllegalArgumentException("The seed value must be greater than 0.");
+        }
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Specifies a region of the file which is left as zeros (a "hole" in the file). Regions may overlap.
+     *
+     * @param offset the offset of the region
+     * @param length the length of the region
+     * @return the fixture
+     */
+    public BinaryFixture sparse(final long offset, final long length) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IllegalArgumentException("The sparse region (" + offset + ", " + length + ") is not within the file.");
+        }
+        sparseRegions.add(new long[]{offset, offset + length});
+        return this;
+    }
+
+    /**
+     * Writes the fixture content to the specified file, replacing any existing content.
+     *
+     * @param file the file to be written
+     * @return the path of the written file
+     * @throws IOException if there is a problem writing the file
+     */
+    public Path writeTo(final Path file) throws IOException {
+        val random = SharedRandom.generator(seed != null ? seed : current().nextLong(1, Long.MAX_VALUE));
+        val buffer = ByteBuffer.allocateDirect((int) Math.min(BUFFER_SIZE, Math.max(size, Long.BYTES)));
+
+        try (val channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE, SPARSE)) {
+            long position = 0;
+            for (val region : sortedRegions()) {
+                if (region[0] > position) {
+                    writeRandom(channel, buffer, random, region[0] - position);
+                }
+                position = Math.max(position, region[1]);
+                channel.position(position);
+            }
+
+            if (position < size) {
+                writeRandom(channel, buffer, random, size - position);
+            } else if (size > 0 && channel.size() < size) {
+                // the file ends in a sparse region, so write the last (zero) byte to extend the file
+                channel.write(ByteBuffer.allocate(1), size - 1);
+            }
+        }
+
+        return file;
+    }
+
+    private List<long[]> sortedRegions() {
+        val regions = new ArrayList<>(sparseRegions);
+        regions.sort(Comparator.comparingLong(r -> r[0]));
+        return regions;
+    }
+
+    private static void writeRandom(final FileChannel channel, final ByteBuffer buffer, final RandomGenerator random, final long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            val length = (int) Math.min(buffer.capacity(), remaining);
+            buffer.clear().limit(length);
+
+            while (buffer.remaining() >= Long.BYTES) {
+                buffer.putLong(random.nextLong());
+            }
+
+            if (buffer.hasRemaining()) {
+                long value = random.nextLong();
+                while (buffer.hasRemaining()) {
+                    buffer.put((byte) value);
+                    value >>>= 8;
+                }
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            remaining -= length;
+        }
+    }
+}
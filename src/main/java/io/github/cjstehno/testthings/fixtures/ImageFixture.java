@@ -0,0 +1,265 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.fixtures;
+
+import io.github.cjstehno.testthings.rando.SharedRandom;
+import lombok.Getter;
+import lombok.val;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static java.lang.System.getProperty;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Locale.ROOT;
+
+/**
+ * A generator of image file fixtures, in any format supported by {@link ImageIO} (e.g. "png", "gif" or "jpg"). The
+ * image content (a pattern of random blocks of color) is rendered deterministically from a seed - if no seed is
+ * specified, one is drawn from the {@link SharedRandom} (so that the content is pinned along with the other random
+ * values of a test).
+ *
+ * Encoding images is relatively expensive, so the encoded images of fixtures with a specified seed are stored in an
+ * on-disk cache, keyed by the format, dimensions and seed of the image. Once an image has been encoded, later requests
+ * for the same image (in the same or another JVM) are served from the cache. Images rendered from a drawn seed are
+ * unlikely to be requested again, so they are encoded directly, without being cached. The cache directory defaults to a "test-things-fixtures" directory in the
+ * system temp directory, but it may be configured using the "test-things.fixtures.cache" system property, or specified
+ * per fixture.
+ *
+ * <pre>
+ * val path = imageFixture("png", 640, 480).seed(8675309L).writeTo(file);
+ * </pre>
+ */
+public final class ImageFixture {
+
+    /**
+     * The System property which may be used to specify the fixture cache directory (e.g "test-things.fixtures.cache").
+     */
+    public static final String CACHE_PROPERTY = "test-things.fixtures.cache";
+
+    // changes to the rendering must change the version, so that existing cache entries are not used
+    private static final int RENDER_VERSION = 1;
+    private static final int BLOCK_SIZE = 16;
+
+    /**
+     * The image format name.
+     */
+    @Getter private final String format;
+
+    /**
+     * The image width, in pixels.
+     */
+    @Getter private final int width;
+
+    /**
+     * The image height, in pixels.
+     */
+    @Getter private final int height;
+
+    private Long seed;
+    private boolean seedSpecified;
+    private Path cacheDirectory;
+
+    private ImageFixture(final String format, final int width, final int height) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("The image dimensions must be greater than zero.");
+        }
+        if (!ImageIO.getImageWritersByFormatName(format).hasNext()) {
+            throw new IllegalArgumentException("The image format (" + format + ") is not supported.");
+        }
+
+        this.format = format.toLowerCase(ROOT);
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Creates an image fixture with the specified format and dimensions.
+     *
+     * @param format the image format name (e.g. "png", "gif" or "jpg")
+     * @param width  the width of the image, in pixels
+     * @param height the height of the image, in pixels
+     * @return the fixture
+     */
+    public static ImageFixture imageFixture(final String format, final int width, final int height) {
+        return new ImageFixture(format, width, height);
+    }
+
+    /**
+     * Specifies the seed used to render the image.
+     *
+     * @param seed the seed (must be greater than zero)
+     * @return the fixture
+     */
+    public ImageFixture seed(final long seed) {
+        if (seed < 1) {
+            throw new IllegalArgumentException("The seed value must be greater than 0.");
+        }
+        this.seed = seed;
+        this.seedSpecified = true;
+        return this;
+    }
+
+    /**
+     * Specifies the directory used to cache the encoded images (overriding the configured cache directory).
+     *
+     * @param directory the cache directory
+     * @return the fixture
+     */
+    public ImageFixture cacheDirectory(final Path directory) {
+        this.cacheDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Renders the image (without encoding or caching it).
+     *
+     * @return the rendered image
+     */
+    public BufferedImage render() {
+        return render(resolveSeed());
+    }
+
+    /**
+     * Writes the encoded image to the specified file (from the cache when the seed was specified, encoding it first if
+     * it is not cached).
+     *
+     * @param file the file to be written
+     * @return the path of the written file
+     * @throws IOException if there is a problem writing the file
+     */
+    public Path writeTo(final Path file) throws IOException {
+        if (seedSpecified) {
+            return Files.copy(cached(), file, REPLACE_EXISTING);
+        }
+
+        try (val output = Files.newOutputStream(file)) {
+            encode(resolveSeed(), output);
+        }
+        return file;
+    }
+
+    /**
+     * Retrieves the encoded image as a byte array (from the cache when the seed was specified, encoding it first if it
+     * is not cached).
+     *
+     * @return the encoded image bytes
+     * @throws IOException if there is a problem reading the file
+     */
+    public byte[] toBytes() throws IOException {
+        if (seedSpecified) {
+            return Files.readAllBytes(cached());
+        }
+
+        val output = new ByteArrayOutputStream();
+        encode(resolveSeed(), output);
+        return output.toByteArray();
+    }
+
+    /**
+     * Retrieves the path of the cached image file, encoding the image first if it is not cached. The cached file is
+     * shared, and must not be modified.
+     *
+     * @return the path of the cached image file
+     * @throws IOException           if there is a problem writing the file
+     * @throws IllegalStateException if no seed was specified for the fixture
+     */
+    public Path cached() throws IOException {
+        if (!seedSpecified) {
+            throw new IllegalStateException("Only images with a specified seed are cached.");
+        }
+
+        val imageSeed = resolveSeed();
+        val directory = Files.createDirectories(resolveCacheDirectory());
+        val file = directory.resolve("image-v%d-%dx%d-%d.%s".formatted(RENDER_VERSION, width, height, imageSeed, format));
+
+        if (!Files.exists(file)) {
+            // encode to a temp file and move it into place, so other threads (or JVMs) never see a partial file
+            val temp = Files.createTempFile(directory, "image-", ".tmp");
+            try {
+                try (val output = Files.newOutputStream(temp)) {
+                    encode(imageSeed, output);
+                }
+                move(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        return file;
+    }
+
+    private void encode(final long imageSeed, final OutputStream output) throws IOException {
+        if (!ImageIO.write(render(imageSeed), format, output)) {
+            throw new IllegalStateException("Unable to encode the image as " + format + ".");
+        }
+    }
+
+    private BufferedImage render(final long imageSeed) {
+        // the algorithm is pinned, so that the image is determined by its cache key alone
+        val random = SharedRandom.generator(imageSeed, SharedRandom.DEFAULT_ALGORITHM);
+        val image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        val graphics = image.createGraphics();
+        try {
+            for (int y = 0; y < height; y += BLOCK_SIZE) {
+                for (int x = 0; x < width; x += BLOCK_SIZE) {
+                    graphics.setColor(new Color(random.nextInt(0x1000000)));
+                    graphics.fillRect(x, y, BLOCK_SIZE, BLOCK_SIZE);
+                }
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        return image;
+    }
+
+    private long resolveSeed() {
+        if (seed == null) {
+            seed = current().nextLong(1, Long.MAX_VALUE);
+        }
+        return seed;
+    }
+
+    private Path resolveCacheDirectory() {
+        if (cacheDirectory != null) {
+            return cacheDirectory;
+        }
+
+        val cacheProperty = getProperty(CACHE_PROPERTY);
+        return cacheProperty != null && !cacheProperty.isBlank()
+            ? Path.of(cacheProperty.trim())
+            : Path.of(getProperty("java.io.tmpdir"), "test-things-fixtures");
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+}
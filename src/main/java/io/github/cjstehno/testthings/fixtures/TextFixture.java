@@ -0,0 +1,387 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.fixtures;
+
+import io.github.cjstehno.testthings.rando.Randomizer;
+import io.github.cjstehno.testthings.rando.SharedRandom;
+import lombok.NoArgsConstructor;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.cjstehno.testthings.Resources.resourceToString;
+import static io.github.cjstehno.testthings.rando.NumberRandomizers.anIntBetween;
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Locale.ROOT;
+import static lombok.AccessLevel.PRIVATE;
+import static org.apache.commons.lang3.StringUtils.capitalize;
+
+/**
+ * A generator of random text file fixtures. The text is made up of lines of random words (each line is a "sentence"
+ * starting with a capitalized word and ending with a period), grouped into paragraphs separated by blank lines. The
+ * words are drawn from the fixture enums (by default the {@link ColorName}, {@link PhoneticAlphabet} and {@link Planet}
+ * values), the provided words, or a dictionary resource.
+ *
+ * The words are encoded (with the configured charset) once, and the text is streamed to the file through a direct
+ * buffer, so large files may be generated at disk speed without holding their content in memory.
+ *
+ * The content is deterministic for a given seed - if no seed is specified, the values are drawn from the current
+ * {@link SharedRandom} (so that the content is pinned along with the other random values of a test).
+ *
+ * <pre>
+ * val path = textFixture().words(UsState.class).wordsPerLine(anIntBetween(3, 12)).seed(8675309L).writeBytes(file, 1_000_000);
+ * </pre>
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class TextFixture {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final List<String> words = new ArrayList<>();
+    private Randomizer<Integer> wordsPerLine = anIntBetween(4, 16);
+    private Randomizer<Integer> linesPerParagraph = anIntBetween(2, 8);
+    private Charset charset = UTF_8;
+    private Long seed;
+
+    /**
+     * Creates a text fixture.
+     *
+     * @return the fixture
+     */
+    public static TextFixture textFixture() {
+        return new TextFixture();
+    }
+
+    /**
+     * Adds the values of the given fixture enums (e.g. {@link ColorName}) to the available words.
+     *
+     * @param enumTypes the enum types
+     * @return the fixture
+     */
+    @SafeVarargs
+    public final TextFixture words(final Class<? extends Enum<?>>... enumTypes) {
+        for (val enumType : enumTypes) {
+            for (val value : enumType.getEnumConstants()) {
+                words.add(value.toString().toLowerCase(ROOT));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the given words to the available words.
+     *
+     * @param values the words
+     * @return the fixture
+     */
+    public TextFixture words(final String... values) {
+        words.addAll(Arrays.asList(values));
+        return this;
+    }
+
+    /**
+     * Adds the words of the given classpath resource (delimited by whitespace) to the available words.
+     *
+     * @param resourcePath the classpath path of the dictionary resource (UTF-8)
+     * @return the fixture
+     */
+    public TextFixture dictionary(final String resourcePath) {
+        for (val word : resourceToString(resourcePath).split("\\s+")) {
+            if (!word.isBlank()) {
+                words.add(word);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Specifies the randomizer used to determine the number of words in each line.
+     *
+     * @param randomizer the randomizer
+     * @return the fixture
+     */
+    public TextFixture wordsPerLine(final Randomizer<Integer> randomizer) {
+        this.wordsPerLine = randomizer;
+        return this;
+    }
+
+    /**
+     * Specifies the randomizer used to determine the number of lines in each paragraph.
+     *
+     * @param randomizer the randomizer
+     * @return the fixture
+     */
+    public TextFixture linesPerParagraph(final Randomizer<Integer> randomizer) {
+        this.linesPerParagraph = randomizer;
+        return this;
+    }
+
+    /**
+     * Specifies the charset of the generated files (defaults to UTF-8).
+     *
+     * @param charset the charset
+     * @return the fixture
+     */
+    public TextFixture charset(final Charset charset) {
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * Specifies the seed used to generate the content.
+     *
+     * @param seed the seed (must be greater than zero)
+     * @return the fixture
+     */
+    public TextFixture seed(final long seed) {
+        if (seed < 1) {
+            throw new IllegalArgumentException("The seed value must be greater than 0.");
+        }
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Writes the specified number of bytes of text to the file, replacing any existing content. The last word of the
+     * file is truncated (at a character boundary) and padded with spaces as needed to produce the exact size - unless
+     * the charset cannot encode a space in the remaining bytes (e.g. an odd size in UTF-16), in which case the file may
+     * be slightly smaller.
+     *
+     * @param file the file to be written
+     * @param size the size of the file, in bytes
+     * @return the path of the written file
+     * @throws IOException if there is a problem writing the file
+     */
+    public Path writeBytes(final Path file, final long size) throws IOException {
+        try (val sink = new ChannelSink(FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE), tokens(), size)) {
+            generate(sink, Long.MAX_VALUE);
+        }
+        return file;
+    }
+
+    /**
+     * Writes the specified number of lines of text to the file, replacing any existing content.
+     *
+     * @param file  the file to be written
+     * @param lines the number of lines of text (not counting the blank lines between paragraphs)
+     * @return the path of the written file
+     * @throws IOException if there is a problem writing the file
+     */
+    public Path writeLines(final Path file, final long lines) throws IOException {
+        try (val sink = new ChannelSink(FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE), tokens(), Long.MAX_VALUE)) {
+            generate(sink, lines);
+        }
+        return file;
+    }
+
+    /**
+     * Writes the specified number of lines of text to the writer. The writer is not closed.
+     *
+     * @param writer the writer
+     * @param lines  the number of lines of text (not counting the blank lines between paragraphs)
+     * @throws IOException if there is a problem writing the text
+     */
+    public void writeLines(final Writer writer, final long lines) throws IOException {
+        val tokens = tokens();
+        generate(token -> {
+            writer.write(tokens.text[token]);
+            return true;
+        }, lines);
+    }
+
+    private Tokens tokens() {
+        if (words.isEmpty()) {
+            words(ColorName.class, PhoneticAlphabet.class, Planet.class);
+        }
+        return new Tokens(words, charset);
+    }
+
+    private void generate(final Sink sink, final long lines) throws IOException {
+        if (seed == null) {
+            generateText(sink, lines);
+            return;
+        }
+
+        try {
+            SharedRandom.withSeed(seed, () -> {
+                try {
+                    generateText(sink, lines);
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void generateText(final Sink sink, final long lines) throws IOException {
+        val wordCount = words.size();
+
+        long line = 0;
+        while (line < lines) {
+            if (line > 0 && !sink.write(Tokens.BLANK_LINE)) {
+                return;
+            }
+
+            val paragraphLines = Math.max(1, linesPerParagraph.one());
+            for (int p = 0; p < paragraphLines && line < lines; p++, line++) {
+                val lineWords = Math.max(1, wordsPerLine.one());
+                for (int w = 0; w < lineWords; w++) {
+                    val word = current().nextInt(wordCount);
+                    if ((w > 0 && !sink.write(Tokens.SPACE)) || !sink.write(w == 0 ? Tokens.WORDS + wordCount + word : Tokens.WORDS + word)) {
+                        return;
+                    }
+                }
+                if (!sink.write(Tokens.END_OF_LINE)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * The text and encoded bytes of each token: the separators, followed by the words, followed by the capitalized words.
+     */
+    private static final class Tokens {
+
+        static final int SPACE = 0;
+        static final int END_OF_LINE = 1;
+        static final int BLANK_LINE = 2;
+        static final int WORDS = 3;
+
+        final String[] text;
+        final byte[][] bytes;
+        final Charset charset;
+
+        Tokens(final List<String> words, final Charset charset) {
+            this.charset = charset;
+            text = new String[WORDS + words.size() * 2];
+            text[SPACE] = " ";
+            text[END_OF_LINE] = ".\n";
+            text[BLANK_LINE] = "\n";
+            for (int w = 0; w < words.size(); w++) {
+                text[WORDS + w] = words.get(w);
+                text[WORDS + words.size() + w] = capitalize(words.get(w));
+            }
+
+            bytes = new byte[text.length][];
+            for (int t = 0; t < text.length; t++) {
+                bytes[t] = text[t].getBytes(charset);
+            }
+        }
+
+        // the encoded token, truncated at a character boundary and padded with spaces to (at most) the given size
+        byte[] truncated(final int token, final int size) {
+            val value = text[token];
+            int end = 0;
+            while (end < value.length()) {
+                val next = value.offsetByCodePoints(end, 1);
+                if (value.substring(0, next).getBytes(charset).length > size) {
+                    break;
+                }
+                end = next;
+            }
+
+            val truncated = new StringBuilder(value.substring(0, end));
+            while ((truncated + " ").getBytes(charset).length <= size) {
+                truncated.append(' ');
+            }
+            return truncated.toString().getBytes(charset);
+        }
+    }
+
+    /**
+     * Receives the generated tokens.
+     */
+    @FunctionalInterface
+    private interface Sink {
+
+        // returns false when no more tokens are accepted
+        boolean write(int token) throws IOException;
+    }
+
+    /**
+     * A sink which writes the encoded tokens to a file channel, up to a maximum number of bytes.
+     */
+    private static final class ChannelSink implements Sink, AutoCloseable {
+
+        private final FileChannel channel;
+        private final Tokens tokens;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private long remaining;
+
+        private ChannelSink(final FileChannel channel, final Tokens tokens, final long limit) {
+            this.channel = channel;
+            this.tokens = tokens;
+            this.remaining = limit;
+        }
+
+        @Override public boolean write(final int token) throws IOException {
+            // the last token is truncated at a character boundary, so a multi-byte character is never split
+            val last = tokens.bytes[token].length >= remaining;
+            val bytes = last ? tokens.truncated(token, (int) remaining) : tokens.bytes[token];
+            val length = bytes.length;
+
+            if (buffer.remaining() < length) {
+                flush();
+            }
+
+            if (length <= buffer.remaining()) {
+                buffer.put(bytes, 0, length);
+            } else {
+                // a token larger than the buffer
+                flush();
+                val wrapped = ByteBuffer.wrap(bytes, 0, length);
+                while (wrapped.hasRemaining()) {
+                    channel.write(wrapped);
+                }
+            }
+
+            remaining = last ? 0 : remaining - length;
+            return remaining > 0;
+        }
+
+        @Override public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
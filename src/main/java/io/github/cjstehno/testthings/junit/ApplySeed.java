@@ -19,7 +19,7 @@ import java.lang.annotation.*;
 
 /**
  * When used with the <code>SharedRandomExtension</code> on a test method, it will inject the specified seed
- * value and use it rather than any other configured value.
+ * value (and optionally the generator algorithm) and use it rather than any other configured value.
  */
 @Target({ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
@@ -32,4 +32,12 @@ public @interface ApplySeed {
      * @return the configured seed value.
      */
     long value();
+
+    /**
+     * The configured generator algorithm (see {@link java.util.random.RandomGeneratorFactory}). If not specified, the
+     * algorithm configured for the <code>SharedRandom</code> (or its default) will be used.
+     *
+     * @return the configured generator algorithm name
+     */
+    String algorithm() default "";
 }
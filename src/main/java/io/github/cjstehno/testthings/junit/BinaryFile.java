@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Annotation used by the <code>FileFixturesExtension</code> to annotate fields and parameters that should be populated
+ * with a generated binary file fixture (see <code>BinaryFixture</code>).
+ */
+@Target({PARAMETER, FIELD})
+@Retention(RUNTIME)
+@Documented
+public @interface BinaryFile {
+
+    /**
+     * The size of the generated file, in bytes.
+     *
+     * @return the file size
+     */
+    long size();
+
+    /**
+     * The seed used to generate the file content. If not specified (or zero), the seed is drawn from the
+     * <code>SharedRandom</code>.
+     *
+     * @return the seed
+     */
+    long seed() default 0;
+
+    /**
+     * The sparse regions of the file, as pairs of offset and length values (e.g. <code>{0, 1024, 4096, 512}</code>).
+     *
+     * @return the sparse regions
+     */
+    long[] sparse() default {};
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.junit;
+
+import io.github.cjstehno.testthings.fixtures.BinaryFixture;
+import io.github.cjstehno.testthings.fixtures.ImageFixture;
+import io.github.cjstehno.testthings.fixtures.TextFixture;
+import lombok.val;
+import org.junit.jupiter.api.extension.*;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+import static io.github.cjstehno.testthings.fixtures.BinaryFixture.binaryFixture;
+import static io.github.cjstehno.testthings.fixtures.ImageFixture.imageFixture;
+import static io.github.cjstehno.testthings.fixtures.TextFixture.textFixture;
+import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.create;
+import static org.junit.platform.commons.support.AnnotationSupport.findAnnotatedFields;
+import static org.junit.platform.commons.support.HierarchyTraversalMode.TOP_DOWN;
+import static org.junit.platform.commons.support.ModifierSupport.isStatic;
+
+/**
+ * A JUnit 5 extension that provides injection of generated file fixtures. The files are generated into a temporary
+ * directory, which is deleted once the test (or test class, for static fields) is complete. The supported annotations
+ * are as follows:
+ * <p>
+ * <strong>BinaryFile.</strong> A field or parameter annotated with {@link BinaryFile} will be populated with a file of
+ * random binary content (see {@link BinaryFixture}).
+ * <p>
+ * <strong>TextFile.</strong> A field or parameter annotated with {@link TextFile} will be populated with a file of
+ * random text content (see {@link TextFixture}).
+ * <p>
+ * <strong>ImageFile.</strong> A field or parameter annotated with {@link ImageFile} will be populated with a copy of a
+ * generated image file (see {@link ImageFixture}).
+ * <p>
+ * The annotated fields or parameters may be of type {@link Path} or {@link File}, and they may be on:
+ * <p>
+ * <strong>Static Fields.</strong> A "static" annotated field will be populated during the "BeforeAll" callback.
+ * <p>
+ * <strong>Non-Static Fields.</strong> A non-static annotated field will be populated during the "BeforeEach" callback.
+ * <p>
+ * <strong>Callback or Test Method Parameters.</strong> An annotated lifecycle callback or test method parameter will be
+ * populated when that method is called by the test framework.
+ * <p>
+ * Note: All injected fields will be cleared (set to null) during the appropriate "after" callback.
+ */
+public class FileFixturesExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, AfterAllCallback, ParameterResolver {
+
+    private static final Namespace NAMESPACE = create("test-things", "file-fixtures");
+    private static final String DIRECTORY = "directory";
+    private static final List<Class<? extends Annotation>> ANNOTATIONS = List.of(BinaryFile.class, TextFile.class, ImageFile.class);
+
+    @Override public void beforeAll(final ExtensionContext context) throws Exception {
+        val testClass = context.getRequiredTestClass();
+        updateAnnotatedFields(context, testClass, testClass, true);
+    }
+
+    @Override public void beforeEach(final ExtensionContext context) throws Exception {
+        updateAnnotatedFields(context, context.getRequiredTestClass(), context.getRequiredTestInstance(), false);
+    }
+
+    @Override public void afterEach(final ExtensionContext context) throws Exception {
+        clearAnnotatedFields(context.getRequiredTestClass(), context.getRequiredTestInstance(), false);
+    }
+
+    @Override public void afterAll(final ExtensionContext context) throws Exception {
+        val testClass = context.getRequiredTestClass();
+        clearAnnotatedFields(testClass, testClass, true);
+    }
+
+    @Override
+    public boolean supportsParameter(final ParameterContext paramContext, final ExtensionContext extContext) throws ParameterResolutionException {
+        return ANNOTATIONS.stream().anyMatch(paramContext::isAnnotated);
+    }
+
+    @Override
+    public Object resolveParameter(final ParameterContext paramContext, final ExtensionContext extContext) throws ParameterResolutionException {
+        val param = paramContext.getParameter();
+
+        try {
+            return resolveFixture(extContext, param, param.getType());
+
+        } catch (final Exception ex) {
+            throw new ParameterResolutionException("Unable to resolve parameter (%s): %s".formatted(param.getName(), ex.getMessage()), ex);
+        }
+    }
+
+    private static void updateAnnotatedFields(final ExtensionContext context, final Class<?> testClass, final Object invokeOn, final boolean isStatic) throws Exception {
+        for (val annotation : ANNOTATIONS) {
+            for (val field : findAnnotatedFields(testClass, annotation, f -> isStatic(f) == isStatic, TOP_DOWN)) {
+                field.setAccessible(true);
+                field.set(invokeOn, resolveFixture(context, field, field.getType()));
+            }
+        }
+    }
+
+    private static void clearAnnotatedFields(final Class<?> testClass, final Object invokeOn, final boolean isStatic) throws Exception {
+        for (val annotation : ANNOTATIONS) {
+            for (val field : findAnnotatedFields(testClass, annotation, f -> isStatic(f) == isStatic, TOP_DOWN)) {
+                field.setAccessible(true);
+                field.set(invokeOn, null);
+            }
+        }
+    }
+
+    private static Object resolveFixture(final ExtensionContext context, final AnnotatedElement element, final Class<?> type) throws IOException {
+        if (type != Path.class && type != File.class) {
+            throw new IllegalArgumentException("File fixtures may only be injected as Path or File (not " + type.getName() + ").");
+        }
+
+        val path = generateFixture(directory(context), element);
+        return type == File.class ? path.toFile() : path;
+    }
+
+    private static Path generateFixture(final Path directory, final AnnotatedElement element) throws IOException {
+        val binary = element.getAnnotation(BinaryFile.class);
+        if (binary != null) {
+            val fixture = binaryFixture(binary.size());
+            if (binary.seed() != 0) {
+                fixture.seed(binary.seed());
+            }
+            for (int r = 0; r + 1 < binary.sparse().length; r += 2) {
+                fixture.sparse(binary.sparse()[r], binary.sparse()[r + 1]);
+            }
+            return fixture.writeTo(Files.createTempFile(directory, "binary-", ".bin"));
+        }
+
+        val text = element.getAnnotation(TextFile.class);
+        if (text != null) {
+            val fixture = textFixture().charset(Charset.forName(text.charset()));
+            if (text.seed() != 0) {
+                fixture.seed(text.seed());
+            }
+            if (!text.dictionary().isBlank()) {
+                fixture.dictionary(text.dictionary());
+            }
+
+            val file = Files.createTempFile(directory, "text-", ".txt");
+            return text.bytes() > 0 ? fixture.writeBytes(file, text.bytes()) : fixture.writeLines(file, text.lines());
+        }
+
+        val image = element.getAnnotation(ImageFile.class);
+        if (image != null) {
+            val fixture = imageFixture(image.format(), image.width(), image.height());
+            if (image.seed() != 0) {
+                fixture.seed(image.seed());
+            }
+            return fixture.writeTo(Files.createTempFile(directory, "image-", "." + fixture.getFormat()));
+        }
+
+        throw new IllegalArgumentException("No file fixture annotation found on " + element + ".");
+    }
+
+    private static Path directory(final ExtensionContext context) {
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(DIRECTORY, k -> new TempDirectory(), TempDirectory.class).path;
+    }
+
+    /**
+     * A temporary directory which is deleted (with its content) when the context store is closed.
+     */
+    private static final class TempDirectory implements CloseableResource {
+
+        private final Path path;
+
+        private TempDirectory() {
+            try {
+                path = Files.createTempDirectory("test-things-fixtures-");
+            } catch (final IOException ex) {
+                throw new IllegalStateException("Unable to create fixture directory: " + ex.getMessage(), ex);
+            }
+        }
+
+        @Override public void close() throws Throwable {
+            try (val paths = Files.walk(path)) {
+                for (val p : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(p);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Annotation used by the <code>FileFixturesExtension</code> to annotate fields and parameters that should be populated
+ * with a generated image file fixture (see <code>ImageFixture</code>).
+ */
+@Target({PARAMETER, FIELD})
+@Retention(RUNTIME)
+@Documented
+public @interface ImageFile {
+
+    /**
+     * The image format name (e.g. "png", "gif" or "jpg").
+     *
+     * @return the image format
+     */
+    String format() default "png";
+
+    /**
+     * The width of the image, in pixels.
+     *
+     * @return the image width
+     */
+    int width();
+
+    /**
+     * The height of the image, in pixels.
+     *
+     * @return the image height
+     */
+    int height();
+
+    /**
+     * The seed used to render the image. If not specified (or zero), the seed is drawn from the
+     * <code>SharedRandom</code>.
+     *
+     * @return the seed
+     */
+    long seed() default 0;
+}
@@ -17,9 +17,11 @@ package io.github.cjstehno.testthings.junit;
 
 import io.github.cjstehno.testthings.rando.SharedRandom;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.junit.platform.commons.support.ModifierSupport;
 
 import java.lang.reflect.Field;
@@ -27,6 +29,7 @@ import java.lang.reflect.Method;
 import java.util.Optional;
 
 import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static io.github.cjstehno.testthings.rando.SharedRandom.deriveSeed;
 import static io.github.cjstehno.testthings.util.Reflections.extractValue;
 import static java.lang.System.nanoTime;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
@@ -48,42 +51,119 @@ import static org.junit.platform.commons.support.ReflectionSupport.findFields;
  * Alternately, if your test method is annotated with the {@link ApplySeed} annotation, its value will be used as the
  * seed for that test method.
  * <p>
+ * The generator algorithm may be specified in the same manner, using the <code>algorithm</code> property of the
+ * {@link ApplySeed} annotation, or a <code>static final String KNOWN_ALGORITHM</code> field. If neither is provided,
+ * the algorithm configured for the <code>SharedRandom</code> is used.
+ * <p>
+ * <strong>Per-Test Seeds.</strong> When tests are run in parallel (or the code under test uses other threads), the
+ * values generated by a single shared seed depend on the scheduling of the threads. Per-test seeds may be enabled by
+ * setting the "test-things.rando.per-test-seed" configuration parameter (or system property) to <code>true</code>, or by
+ * adding a <code>static final boolean PER_TEST_SEED = true</code> field to your test class. Each test is then given its
+ * own seed, derived from the unique id of the test and a root seed - the "test-things.rando.root-seed" configuration
+ * parameter, if specified, otherwise the known seed described above. The generator is also made inheritable (see
+ * <code>SharedRandom.setInheritable(boolean)</code>), so that threads started by the test get their own derived seeds.
+ * An {@link ApplySeed} annotation on the test method still takes precedence (and the generator is still inheritable,
+ * so that applying the reported seed of a failed test reproduces the seeds of its threads as well).
+ * <p>
+ * If a test fails, its seed (and algorithm) is logged and published as a report entry (with the key
+ * "test-things.rando.seed"), so that the failure may be reproduced by applying that seed to the test.
+ * <p>
  * The random generator is reset after each test by setting the seed to the current <code>nanoTime()</code> value (i.e.
- * making it "random" again).
+ * making it "random" again), and the algorithm back to the configured algorithm.
  *
  * <strong>Note:</strong> In case you are not aware, the seed-based random number generation is not really random - if
  * you use the same seed, you get the same "random" values in the same order, which is the basis for this method of
  * testing.
  */
 @Slf4j
-public class SharedRandomExtension implements BeforeEachCallback, AfterEachCallback {
+public class SharedRandomExtension implements BeforeEachCallback, AfterEachCallback, TestExecutionExceptionHandler {
 
     /**
      * The default known seed value - should be good enough for most cases. You can override this default by providing
      * a <code>static final long KNOWN_SEED</code> field with your value.
      */
     public static long DEFAULT_KNOWN_SEED = 4242424242L;
+
+    /**
+     * The configuration parameter (or system property) used to enable per-test seeds (e.g. "test-things.rando.per-test-seed").
+     */
+    public static final String PER_TEST_SEED_PARAMETER = "test-things.rando.per-test-seed";
+
+    /**
+     * The configuration parameter (or system property) used to specify the root seed of the per-test seeds (e.g.
+     * "test-things.rando.root-seed").
+     */
+    public static final String ROOT_SEED_PARAMETER = "test-things.rando.root-seed";
+
+    /**
+     * The key of the report entry published with the seed of a failed test (e.g. "test-things.rando.seed").
+     */
+    public static final String SEED_REPORT_KEY = "test-things.rando.seed";
+
     private static final String KNOWN_SEED = "KNOWN_SEED";
+    private static final String KNOWN_ALGORITHM = "KNOWN_ALGORITHM";
+    private static final String PER_TEST_SEED = "PER_TEST_SEED";
 
     @Override public void beforeEach(final ExtensionContext context) throws Exception {
-        // set the seed to the default or configured value
-        ((SharedRandom) current()).reseed(resolveKnownSeed(context.getRequiredTestClass(), context.getRequiredTestMethod()));
+        // set the seed (and algorithm) to the default or configured value
+        val testClass = context.getRequiredTestClass();
+        val testMethod = context.getRequiredTestMethod();
+        val random = (SharedRandom) current();
+
+        val applied = findAnnotation(testMethod, ApplySeed.class).map(ApplySeed::value);
+        val perTestSeed = isPerTestSeed(context, testClass);
+        if (applied.isEmpty() && perTestSeed) {
+            val rootSeed = context.getConfigurationParameter(ROOT_SEED_PARAMETER, Long::parseLong)
+                .orElseGet(() -> resolveKnownSeed(testClass));
+
+            random.reseed(deriveSeed(rootSeed, context.getUniqueId()), resolveKnownAlgorithm(testClass, testMethod));
+
+        } else {
+            random.reseed(applied.orElseGet(() -> resolveKnownSeed(testClass)), resolveKnownAlgorithm(testClass, testMethod));
+        }
+
+        // an applied seed reproduces a per-test seed, so its threads must derive their seeds in the same way
+        random.setInheritable(perTestSeed);
     }
 
     @Override public void afterEach(final ExtensionContext context) throws Exception {
         // reset it to standard "random" behavior
-        ((SharedRandom) current()).reseed(nanoTime());
+        val random = (SharedRandom) current();
+        random.reseed(nanoTime(), null);
+        random.setInheritable(false);
+    }
+
+    @Override public void handleTestExecutionException(final ExtensionContext context, final Throwable throwable) throws Throwable {
+        val random = (SharedRandom) current();
+        val seed = random.getSeed() + " (" + random.getAlgorithm() + ")";
+
+        log.warn("Test ({}) failed with random seed: {}", context.getDisplayName(), seed);
+        context.publishReportEntry(SEED_REPORT_KEY, seed);
+
+        throw throwable;
+    }
+
+    private static boolean isPerTestSeed(final ExtensionContext context, final Class<?> testClass) {
+        return context.getConfigurationParameter(PER_TEST_SEED_PARAMETER, Boolean::parseBoolean)
+            .or(() -> firstField(testClass, PER_TEST_SEED, Boolean.TYPE).map(f -> extractValue(testClass, f, Boolean.TYPE)))
+            .orElse(false);
+    }
+
+    private static long resolveKnownSeed(final Class<?> testClass) {
+        return firstField(testClass, KNOWN_SEED, Long.TYPE)
+            .map(f -> extractValue(testClass, f, Long.TYPE))
+            .orElse(DEFAULT_KNOWN_SEED);
     }
 
-    private static long resolveKnownSeed(final Class<?> testClass, final Method testMethod) throws Exception {
-        var seed = findAnnotation(testMethod, ApplySeed.class).map(ApplySeed::value);
+    private static String resolveKnownAlgorithm(final Class<?> testClass, final Method testMethod) {
+        var algorithm = findAnnotation(testMethod, ApplySeed.class).map(ApplySeed::algorithm).filter(a -> !a.isBlank());
 
-        if (seed.isEmpty()) {
-            seed = firstField(testClass, KNOWN_SEED, Long.TYPE)
-                .map(f -> extractValue(testClass, f, Long.TYPE));
+        if (algorithm.isEmpty()) {
+            algorithm = firstField(testClass, KNOWN_ALGORITHM, String.class)
+                .map(f -> extractValue(testClass, f, String.class));
         }
 
-        return seed.orElse(DEFAULT_KNOWN_SEED);
+        return algorithm.orElse(null);
     }
 
     private static Optional<Field> firstField(final Class<?> testClass, final String fieldName, final Class<?> fieldType) {
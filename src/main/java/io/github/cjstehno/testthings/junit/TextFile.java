@@ -0,0 +1,71 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Annotation used by the <code>FileFixturesExtension</code> to annotate fields and parameters that should be populated
+ * with a generated text file fixture (see <code>TextFixture</code>). The size of the file is specified by either the
+ * <code>bytes</code> or the <code>lines</code> property.
+ */
+@Target({PARAMETER, FIELD})
+@Retention(RUNTIME)
+@Documented
+public @interface TextFile {
+
+    /**
+     * The number of lines of text to be generated (used when the <code>bytes</code> are not specified).
+     *
+     * @return the number of lines
+     */
+    long lines() default 0;
+
+    /**
+     * The size of the generated file, in bytes (takes precedence over the <code>lines</code>, if specified).
+     *
+     * @return the file size
+     */
+    long bytes() default 0;
+
+    /**
+     * The seed used to generate the file content. If not specified (or zero), the values are drawn from the
+     * <code>SharedRandom</code>.
+     *
+     * @return the seed
+     */
+    long seed() default 0;
+
+    /**
+     * The name of the charset of the generated file.
+     *
+     * @return the charset name
+     */
+    String charset() default "UTF-8";
+
+    /**
+     * The classpath path of a dictionary resource providing the words (defaults to the fixture enum values).
+     *
+     * @return the dictionary resource path
+     */
+    String dictionary() default "";
+}
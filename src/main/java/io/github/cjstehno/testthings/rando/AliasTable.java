@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.val;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A Walker/Vose alias table used to select a weighted index in constant time, regardless of the number of weights.
+ */
+final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Builds the alias table for the given weights. The weights do not need to be normalized.
+     *
+     * @param weights the weights (one per index)
+     * @throws IllegalArgumentException if there are no weights, a weight is negative or not finite, or all weights are zero
+     */
+    AliasTable(final double[] weights) {
+        val n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("At least one weight must be provided.");
+        }
+
+        var total = 0d;
+        for (val weight : weights) {
+            if (weight < 0 || !Double.isFinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and not negative: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be greater than zero.");
+        }
+
+        probability = new double[n];
+        alias = new int[n];
+
+        // scale the weights so that the average is 1, then partition them into small and large work lists
+        val scaled = new double[n];
+        val small = new int[n];
+        val large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            val less = small[--smallCount];
+            val more = large[--largeCount];
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // whatever remains (including numerical leftovers) is selected with certainty
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+    }
+
+    /**
+     * Retrieves the number of indices in the table.
+     *
+     * @return the size of the table
+     */
+    int size() {
+        return probability.length;
+    }
+
+    /**
+     * Selects a weighted random index.
+     *
+     * @param random the random generator
+     * @return the selected index
+     */
+    int next(final RandomGenerator random) {
+        val index = random.nextInt(probability.length);
+        return random.nextDouble() < probability[index] ? index : alias[index];
+    }
+}
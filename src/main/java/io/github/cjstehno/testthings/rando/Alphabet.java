@@ -0,0 +1,238 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.val;
+
+import java.nio.CharBuffer;
+import java.util.random.RandomGenerator;
+
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.count;
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * A precomputed table of characters used to generate random text. The characters are sampled directly from the table
+ * into the target (a string, array, or buffer), so no intermediate objects are created for each character.
+ *
+ * When the alphabet is "mixed case", each generated character is randomly converted to either lower or upper case. When
+ * all of the characters (in both cases) are in the Latin-1 range, strings are generated in a compact byte buffer.
+ */
+public final class Alphabet {
+
+    private static final int BUFFER_LIMIT = 8192;
+    private static final ThreadLocal<byte[]> BYTES = ThreadLocal.withInitial(() -> new byte[256]);
+    private static final ThreadLocal<char[]> CHARS = ThreadLocal.withInitial(() -> new char[256]);
+
+    private final char[] lower;
+    private final char[] upper;
+    private final boolean mixedCase;
+    private final boolean latin1;
+
+    private Alphabet(final String characters, final boolean mixedCase) {
+        if (characters == null || characters.isEmpty()) {
+            throw new IllegalArgumentException("The alphabet must contain at least one character.");
+        }
+
+        this.mixedCase = mixedCase;
+        this.lower = new char[characters.length()];
+        this.upper = new char[characters.length()];
+
+        var allLatin1 = true;
+        for (int i = 0; i < characters.length(); i++) {
+            val ch = characters.charAt(i);
+            lower[i] = mixedCase ? Character.toLowerCase(ch) : ch;
+            upper[i] = mixedCase ? Character.toUpperCase(ch) : ch;
+            allLatin1 &= lower[i] <= 0xFF && upper[i] <= 0xFF;
+        }
+        this.latin1 = allLatin1;
+    }
+
+    /**
+     * Creates a mixed-case alphabet from the characters of the given string.
+     *
+     * @param characters the characters of the alphabet
+     * @return the alphabet
+     */
+    public static Alphabet alphabet(final String characters) {
+        return alphabet(characters, true);
+    }
+
+    /**
+     * Creates an alphabet from the characters of the given string. If <code>mixedCase</code> is <code>true</code>,
+     * each generated character will be randomly converted to lower or upper case, otherwise the characters are used as
+     * provided.
+     *
+     * @param characters the characters of the alphabet
+     * @param mixedCase  whether the case of the characters should be randomized
+     * @return the alphabet
+     */
+    public static Alphabet alphabet(final String characters, final boolean mixedCase) {
+        return new Alphabet(characters, mixedCase);
+    }
+
+    /**
+     * Determines whether all the characters of the alphabet are in the Latin-1 range (and may be written as bytes).
+     *
+     * @return true if the alphabet is Latin-1 compatible
+     */
+    public boolean isLatin1() {
+        return latin1;
+    }
+
+    /**
+     * Generates a random character from the alphabet.
+     *
+     * @return the random character
+     */
+    public char nextChar() {
+        return nextChar(current());
+    }
+
+    /**
+     * Generates a random string of the specified length.
+     *
+     * @param length the length of the string
+     * @return the random string
+     */
+    public String nextString(final int length) {
+        if (length <= 0) {
+            return "";
+        }
+
+        if (latin1) {
+            val bytes = length <= BUFFER_LIMIT ? byteBuffer(length) : new byte[length];
+            fill(bytes, 0, length);
+            return new String(bytes, 0, length, ISO_8859_1);
+        }
+
+        val chars = length <= BUFFER_LIMIT ? charBuffer(length) : new char[length];
+        fill(chars, 0, length);
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Generates a random character array of the specified length.
+     *
+     * @param length the length of the array
+     * @return the random character array
+     */
+    public char[] nextChars(final int length) {
+        val chars = new char[Math.max(length, 0)];
+        fill(chars, 0, chars.length);
+        return chars;
+    }
+
+    /**
+     * Fills the specified range of the target array with random characters.
+     *
+     * @param target the target array
+     * @param from   the starting index (inclusive)
+     * @param to     the ending index (exclusive)
+     */
+    public void fill(final char[] target, final int from, final int to) {
+        val random = current();
+        for (int i = from; i < to; i++) {
+            target[i] = nextChar(random);
+        }
+    }
+
+    /**
+     * Fills the specified range of the target array with random Latin-1 encoded characters.
+     *
+     * @param target the target array
+     * @param from   the starting index (inclusive)
+     * @param to     the ending index (exclusive)
+     * @throws IllegalStateException if the alphabet is not Latin-1 compatible
+     */
+    public void fill(final byte[] target, final int from, final int to) {
+        if (!latin1) {
+            throw new IllegalStateException("The alphabet contains characters outside of the Latin-1 range.");
+        }
+
+        val random = current();
+        for (int i = from; i < to; i++) {
+            target[i] = (byte) nextChar(random);
+        }
+    }
+
+    /**
+     * Fills the remaining space of the buffer with random characters.
+     *
+     * @param buffer the target buffer
+     * @return a reference to the buffer
+     */
+    public CharBuffer fill(final CharBuffer buffer) {
+        val random = current();
+        while (buffer.hasRemaining()) {
+            buffer.put(nextChar(random));
+        }
+        return buffer;
+    }
+
+    /**
+     * Appends the specified number of random characters to the builder.
+     *
+     * @param builder the target builder
+     * @param length  the number of characters to append
+     * @return a reference to the builder
+     */
+    public StringBuilder appendTo(final StringBuilder builder, final int length) {
+        builder.ensureCapacity(builder.length() + length);
+
+        val random = current();
+        for (int i = 0; i < length; i++) {
+            builder.append(nextChar(random));
+        }
+        return builder;
+    }
+
+    /**
+     * A randomizer which generates random strings from the alphabet.
+     *
+     * @param lengthRando the randomizer used to determine the length of the string
+     * @return the randomizer
+     */
+    public Randomizer<String> strings(final Randomizer<Integer> lengthRando) {
+        return () -> nextString(count(lengthRando));
+    }
+
+    private char nextChar(final RandomGenerator random) {
+        val index = random.nextInt(lower.length);
+        if (!mixedCase) {
+            return lower[index];
+        }
+        return random.nextBoolean() ? lower[index] : upper[index];
+    }
+
+    private static byte[] byteBuffer(final int length) {
+        var buffer = BYTES.get();
+        if (buffer.length < length) {
+            buffer = new byte[Math.max(length, Math.min(buffer.length * 2, BUFFER_LIMIT))];
+            BYTES.set(buffer);
+        }
+        return buffer;
+    }
+
+    private static char[] charBuffer(final int length) {
+        var buffer = CHARS.get();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, Math.min(buffer.length * 2, BUFFER_LIMIT))];
+            CHARS.set(buffer);
+        }
+        return buffer;
+    }
+}
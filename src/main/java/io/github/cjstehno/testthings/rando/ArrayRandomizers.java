@@ -0,0 +1,388 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import static io.github.cjstehno.testthings.rando.ArrayShape.FEW_UNIQUE;
+import static io.github.cjstehno.testthings.rando.ArrayShape.RANDOM;
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.count;
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static io.github.cjstehno.testthings.rando.SharedRandom.deriveSeed;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A collection of randomizers for generating large primitive arrays (e.g. inputs for numeric code, or for sorting and
+ * searching benchmarks) without boxing the values.
+ *
+ * The values are written directly into the generated array. Arrays larger than a single chunk (64K elements) are filled
+ * in fixed-size chunks, each with its own generator seeded from a root seed (drawn from the <code>SharedRandom</code>)
+ * and the index of the chunk - very large arrays (1M or more elements) are filled in parallel, which does not change
+ * the generated values.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class ArrayRandomizers {
+
+    /**
+     * The number of elements filled by each derived generator.
+     */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    /**
+     * The minimum array length which is filled in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    private static final int FEW_UNIQUE_COUNT = 8;
+
+    /**
+     * Builds a randomizer which will generate arrays of random int values between the min (inclusive) and max
+     * (exclusive) bounds. The length of the generated array is also random.
+     *
+     * @param lengthRando the randomizer used to determine the array length
+     * @param min         the min value (inclusive)
+     * @param max         the max value (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<int[]> intArray(final Randomizer<Integer> lengthRando, final int min, final int max) {
+        return intArray(lengthRando, min, max, RANDOM);
+    }
+
+    /**
+     * Builds a randomizer which will generate arrays of random int values between the min (inclusive) and max
+     * (exclusive) bounds, with the given shape. The length of the generated array is also random.
+     *
+     * @param lengthRando the randomizer used to determine the array length
+     * @param min         the min value (inclusive)
+     * @param max         the max value (exclusive)
+     * @param shape       the shape of the generated array
+     * @return the randomizer
+     */
+    public static Randomizer<int[]> intArray(final Randomizer<Integer> lengthRando, final int min, final int max, final ArrayShape shape) {
+        checkRange(min < max);
+        return arrays(lengthRando, shape, new IntElements(min, max));
+    }
+
+    /**
+     * Builds a randomizer which will generate arrays of random long values between the min (inclusive) and max
+     * (exclusive) bounds. The length of the generated array is also random.
+     *
+     * @param lengthRando the randomizer used to determine the array length
+     * @param min         the min value (inclusive)
+     * @param max         the max value (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<long[]> longArray(final Randomizer<Integer> lengthRando, final long min, final long max) {
+        return longArray(lengthRando, min, max, RANDOM);
+    }
+
+    /**
+     * Builds a randomizer which will generate arrays of random long values between the min (inclusive) and max
+     * (exclusive) bounds, with the given shape. The length of the generated array is also random.
+     *
+     * @param lengthRando the randomizer used to determine the array length
+     * @param min         the min value (inclusive)
+     * @param max         the max value (exclusive)
+     * @param shape       the shape of the generated array
+     * @return the randomizer
+     */
+    public static Randomizer<long[]> longArray(final Randomizer<Integer> lengthRando, final long min, final long max, final ArrayShape shape) {
+        checkRange(min < max);
+        return arrays(lengthRando, shape, new LongElements(min, max));
+    }
+
+    /**
+     * Builds a randomizer which will generate arrays of random double values between the min (inclusive) and max
+     * (exclusive) bounds. The length of the generated array is also random.
+     *
+     * @param lengthRando the randomizer used to determine the array length
+     * @param min         the min value (inclusive)
+     * @param max         the max value (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<double[]> doubleArray(final Randomizer<Integer> lengthRando, final double min, final double max) {
+        return doubleArray(lengthRando, min, max, RANDOM);
+    }
+
+    /**
+     * Builds a randomizer which will generate arrays of random double values between the min (inclusive) and max
+     * (exclusive) bounds, with the given shape. The length of the generated array is also random.
+     *
+     * @param lengthRando the randomizer used to determine the array length
+     * @param min         the min value (inclusive)
+     * @param max         the max value (exclusive)
+     * @param shape       the shape of the generated array
+     * @return the randomizer
+     */
+    public static Randomizer<double[]> doubleArray(final Randomizer<Integer> lengthRando, final double min, final double max, final ArrayShape shape) {
+        checkRange(min < max);
+        return arrays(lengthRando, shape, new DoubleElements(min, max));
+    }
+
+    /**
+     * Builds a randomizer which will generate arrays of random float values between the min (inclusive) and max
+     * (exclusive) bounds. The length of the generated array is also random.
+     *
+     * @param lengthRando the randomizer used to determine the array length
+     * @param min         the min value (inclusive)
+     * @param max         the max value (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<float[]> floatArray(final Randomizer<Integer> lengthRando, final float min, final float max) {
+        return floatArray(lengthRando, min, max, RANDOM);
+    }
+
+    /**
+     * Builds a randomizer which will generate arrays of random float values between the min (inclusive) and max
+     * (exclusive) bounds, with the given shape. The length of the generated array is also random.
+     *
+     * @param lengthRando the randomizer used to determine the array length
+     * @param min         the min value (inclusive)
+     * @param max         the max value (exclusive)
+     * @param shape       the shape of the generated array
+     * @return the randomizer
+     */
+    public static Randomizer<float[]> floatArray(final Randomizer<Integer> lengthRando, final float min, final float max, final ArrayShape shape) {
+        checkRange(min < max);
+        return arrays(lengthRando, shape, new FloatElements(min, max));
+    }
+
+    private static void checkRange(final boolean valid) {
+        if (!valid) {
+            throw new IllegalArgumentException("The min value must be less than the max value.");
+        }
+    }
+
+    // generates the array values (directly, or from a few unique values), and arranges them into the requested shape
+    private static <A> Randomizer<A> arrays(final Randomizer<Integer> lengthRando, final ArrayShape shape, final Elements<A> elements) {
+        return () -> {
+            val length = count(lengthRando);
+            val array = elements.create(length);
+            if (shape == FEW_UNIQUE) {
+                val values = elements.create(FEW_UNIQUE_COUNT);
+                elements.fill(values, current(), 0, FEW_UNIQUE_COUNT);
+                fill(length, (random, from, to) -> elements.pick(array, values, random, from, to));
+            } else {
+                fill(length, (random, from, to) -> elements.fill(array, random, from, to));
+            }
+            arrange(array, length, shape, elements);
+            return array;
+        };
+    }
+
+    // fills small arrays directly from the shared random, and larger arrays in chunks with derived generators
+    private static void fill(final int length, final ChunkFiller filler) {
+        val random = SharedRandom.shared();
+        if (length <= CHUNK_SIZE) {
+            filler.fill(random, 0, length);
+            return;
+        }
+
+        // the chunk generators use the algorithm of the generator which supplied the root seed
+        val rootSeed = random.nextLong();
+        val algorithm = random.getAlgorithm();
+        val chunks = IntStream.range(0, (length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        (length >= PARALLEL_THRESHOLD ? chunks.parallel() : chunks).forEach(chunk -> {
+            val from = chunk * CHUNK_SIZE;
+            filler.fill(SharedRandom.generator(deriveSeed(rootSeed, chunk), algorithm), from, Math.min(length, from + CHUNK_SIZE));
+        });
+    }
+
+    // arranges the filled array into the requested shape
+    private static <A> void arrange(final A array, final int length, final ArrayShape shape, final Elements<A> elements) {
+        switch (shape) {
+            case SORTED -> elements.sort(array);
+            case REVERSED -> {
+                elements.sort(array);
+                for (int i = 0, j = length - 1; i < j; i++, j--) {
+                    elements.swap(array, i, j);
+                }
+            }
+            case NEARLY_SORTED -> {
+                elements.sort(array);
+                if (length > 1) {
+                    val random = current();
+                    val swaps = Math.max(1, length / 100);
+                    for (int s = 0; s < swaps; s++) {
+                        val i = random.nextInt(length - 1);
+                        elements.swap(array, i, Math.min(length - 1, i + 1 + random.nextInt(8)));
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Fills a range of an array using the given generator.
+     */
+    @FunctionalInterface
+    private interface ChunkFiller {
+        void fill(RandomGenerator random, int from, int to);
+    }
+
+    /**
+     * The operations on a type of primitive array, used to generate and arrange its values.
+     */
+    private interface Elements<A> {
+        A create(int length);
+
+        // fills the range with random values between the bounds
+        void fill(A array, RandomGenerator random, int from, int to);
+
+        // fills the range with values randomly picked from the given values
+        void pick(A array, A values, RandomGenerator random, int from, int to);
+
+        void sort(A array);
+
+        void swap(A array, int i, int j);
+    }
+
+    @RequiredArgsConstructor
+    private static final class IntElements implements Elements<int[]> {
+        private final int min;
+        private final int max;
+
+        @Override public int[] create(final int length) {
+            return new int[length];
+        }
+
+        @Override public void fill(final int[] array, final RandomGenerator random, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                array[i] = random.nextInt(min, max);
+            }
+        }
+
+        @Override public void pick(final int[] array, final int[] values, final RandomGenerator random, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                array[i] = values[random.nextInt(values.length)];
+            }
+        }
+
+        @Override public void sort(final int[] array) {
+            Arrays.parallelSort(array);
+        }
+
+        @Override public void swap(final int[] array, final int i, final int j) {
+            val value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class LongElements implements Elements<long[]> {
+        private final long min;
+        private final long max;
+
+        @Override public long[] create(final int length) {
+            return new long[length];
+        }
+
+        @Override public void fill(final long[] array, final RandomGenerator random, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                array[i] = random.nextLong(min, max);
+            }
+        }
+
+        @Override public void pick(final long[] array, final long[] values, final RandomGenerator random, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                array[i] = values[random.nextInt(values.length)];
+            }
+        }
+
+        @Override public void sort(final long[] array) {
+            Arrays.parallelSort(array);
+        }
+
+        @Override public void swap(final long[] array, final int i, final int j) {
+            val value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class DoubleElements implements Elements<double[]> {
+        private final double min;
+        private final double max;
+
+        @Override public double[] create(final int length) {
+            return new double[length];
+        }
+
+        @Override public void fill(final double[] array, final RandomGenerator random, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                array[i] = random.nextDouble(min, max);
+            }
+        }
+
+        @Override public void pick(final double[] array, final double[] values, final RandomGenerator random, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                array[i] = values[random.nextInt(values.length)];
+            }
+        }
+
+        @Override public void sort(final double[] array) {
+            Arrays.parallelSort(array);
+        }
+
+        @Override public void swap(final double[] array, final int i, final int j) {
+            val value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class FloatElements implements Elements<float[]> {
+        private final float min;
+        private final float max;
+
+        @Override public float[] create(final int length) {
+            return new float[length];
+        }
+
+        @Override public void fill(final float[] array, final RandomGenerator random, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                array[i] = random.nextFloat(min, max);
+            }
+        }
+
+        @Override public void pick(final float[] array, final float[] values, final RandomGenerator random, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                array[i] = values[random.nextInt(values.length)];
+            }
+        }
+
+        @Override public void sort(final float[] array) {
+            Arrays.parallelSort(array);
+        }
+
+        @Override public void swap(final float[] array, final int i, final int j) {
+            val value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+}
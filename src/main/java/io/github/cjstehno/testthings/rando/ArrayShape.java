@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+/**
+ * The shape (ordering and distribution of values) of an array generated by the {@link ArrayRandomizers}. These
+ * correspond to the typical inputs used to exercise sorting and searching code.
+ */
+public enum ArrayShape {
+
+    /**
+     * The values are uniformly distributed, in no particular order.
+     */
+    RANDOM,
+
+    /**
+     * The values are sorted in ascending order.
+     */
+    SORTED,
+
+    /**
+     * The values are sorted in ascending order, except for a small number (about 1%) of values which have been swapped
+     * with nearby values.
+     */
+    NEARLY_SORTED,
+
+    /**
+     * The values are sorted in descending order.
+     */
+    REVERSED,
+
+    /**
+     * The values are selected from a small number (8) of distinct random values, in no particular order.
+     */
+    FEW_UNIQUE
+}
@@ -19,8 +19,11 @@ package io.github.cjstehno.testthings.rando;
 import lombok.NoArgsConstructor;
 import lombok.val;
 
+import java.lang.reflect.Array;
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Stream;
 
 import static io.github.cjstehno.testthings.rando.SharedRandom.current;
@@ -32,6 +35,8 @@ import static lombok.AccessLevel.PRIVATE;
 @NoArgsConstructor(access = PRIVATE)
 public final class CoreRandomizers {
 
+    private static final int DEFAULT_UNIQUE_ATTEMPTS = 1000;
+
     /**
      * Defines a randomizer which will always return the same value... so not really random at all.
      *
@@ -62,18 +67,90 @@ public final class CoreRandomizers {
      * @param <V>      the type of generated value
      * @return the randomizer
      */
-    @SuppressWarnings("unchecked")
     public static <V extends Enum<V>> Randomizer<V> oneOf(final Class<V> enumType) {
-        try {
-            return oneOf((V[]) enumType.getMethod("values").invoke(enumType));
-        } catch (Exception ex) {
-            throw new RuntimeException(ex);
+        return oneOf(EnumConstants.of(enumType));
+    }
+
+    /**
+     * A randomizer that returns a value from the keys of the given map, where each key is selected with a probability
+     * proportional to its mapped weight. The weights do not need to add up to any specific total. Each selection takes
+     * constant time, regardless of the number of options.
+     *
+     * The selections for a given seed do not depend on the iteration order of the map: comparable options are ordered
+     * by their natural order, while any other options must be provided in a map with a predictable iteration order
+     * (e.g. a <code>LinkedHashMap</code>, <code>EnumMap</code> or <code>SortedMap</code>), whose order is used.
+     *
+     * @param weights the options mapped to their weights
+     * @param <V>     the type of the generated value
+     * @return the randomizer
+     * @throws IllegalArgumentException if the weights are empty, negative, not finite, or all zero - or if the options
+     *                                  are not comparable and the map has no predictable order
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> Randomizer<V> weightedOneOf(final Map<V, ? extends Number> weights) {
+        val options = (V[]) new Object[weights.size()];
+        val values = new double[weights.size()];
+
+        int index = 0;
+        for (val entry : stableOrder(weights).entrySet()) {
+            options[index] = entry.getKey();
+            values[index++] = entry.getValue().doubleValue();
         }
+
+        val table = new AliasTable(values);
+        return () -> options[table.next(current())];
+    }
+
+    private static <V> Map<V, ? extends Number> stableOrder(final Map<V, ? extends Number> weights) {
+        if (weights.keySet().stream().allMatch(Comparable.class::isInstance)) {
+            try {
+                return new TreeMap<>(weights);
+            } catch (final ClassCastException ex) {
+                // options of mixed types are not mutually comparable
+            }
+        }
+
+        if (weights instanceof LinkedHashMap || weights instanceof EnumMap || weights instanceof SortedMap) {
+            return weights;
+        }
+
+        throw new IllegalArgumentException(
+            "The weights of options which are not comparable must be provided in a map with a predictable iteration order."
+        );
+    }
+
+    /**
+     * A randomizer that returns a value from one of the defined enum values, where each value is selected with a
+     * probability proportional to its weight. The weights are provided in the order of the enum constants (ordinal
+     * order) and do not need to add up to any specific total.
+     *
+     * @param enumType the type of enum (provides the values)
+     * @param weights  the weights of the enum values, in ordinal order
+     * @param <V>      the type of generated value
+     * @return the randomizer
+     * @throws IllegalArgumentException if the number of weights does not match the number of enum values, or if the
+     *                                  weights are negative, not finite, or all zero
+     */
+    public static <V extends Enum<V>> Randomizer<V> weightedOneOf(final Class<V> enumType, final double... weights) {
+        val options = EnumConstants.of(enumType);
+        if (options.length != weights.length) {
+            throw new IllegalArgumentException(
+                "Expected %d weights for %s, but found %d.".formatted(options.length, enumType.getSimpleName(), weights.length)
+            );
+        }
+
+        val table = new AliasTable(weights);
+        return () -> options[table.next(current())];
     }
 
     /**
      * A randomizer which will randomly select a value from the collection, popping that value off so that each value
-     * will only be used once.
+     * will only be used once. Once all the values have been used, <code>null</code> will be returned.
+     *
+     * The values are drained through an atomic cursor, swapping a random remaining value into each reserved position
+     * (a lazily-applied Fisher-Yates shuffle), so each selection takes constant time and the randomizer may be drained
+     * concurrently by multiple threads without locks or duplicates. Note that, for a given seed, the order of the values
+     * differs from earlier versions, which removed each selected value from a copied list.
      *
      * @param values the collection of values
      * @param <V>    the type of the generated value
@@ -83,15 +160,161 @@ public final class CoreRandomizers {
         return new OnceEachRandomizer<>(values);
     }
 
+    /**
+     * A randomizer which will randomly select a value from the range of integers (from <code>min</code> inclusive to
+     * <code>max</code> exclusive) so that each value will only be used once. The range values are never materialized;
+     * the order is determined by a random permutation computed on-demand for each value.
+     *
+     * Once all the values have been used, the <code>one()</code> method will return <code>null</code> and the
+     * <code>oneInt()</code> method will throw a {@link NoSuchElementException}.
+     *
+     * @param min the min value (inclusive)
+     * @param max the max value (exclusive)
+     * @return the randomizer
+     */
+    public static IntRandomizer onceEachOf(final int min, final int max) {
+        if (max < min) {
+            throw new IllegalArgumentException("The max value must not be less than the min value.");
+        }
+        return new OnceEachRangeRandomizer(min, max);
+    }
+
     private static class OnceEachRandomizer<V> implements Randomizer<V> {
-        private final List<V> values = new CopyOnWriteArrayList<>();
+        // slot markers: a slot being swapped, and a slot whose value has been returned
+        private static final Object BUSY = new Object();
+        private static final Object TAKEN = new Object();
+
+        private final AtomicReferenceArray<Object> values;
+        private final AtomicInteger cursor = new AtomicInteger();
 
         private OnceEachRandomizer(final Collection<V> values) {
-            this.values.addAll(values);
+            this.values = new AtomicReferenceArray<>(values.toArray());
+        }
+
+        // reserves the next slot and swaps a random remaining value into it (an incremental Fisher-Yates shuffle)
+        @Override @SuppressWarnings("unchecked") public V one() {
+            val size = values.length();
+            if (cursor.get() >= size) {
+                return null;
+            }
+
+            val slot = cursor.getAndIncrement();
+            if (slot >= size) {
+                return null;
+            }
+
+            val own = claim(slot);
+            while (true) {
+                val target = slot + current().nextInt(size - slot);
+                if (target == slot) {
+                    values.set(slot, TAKEN);
+                    return (V) own;
+                }
+
+                // a target taken by a concurrent draw (only possible below the cursor) is simply drawn again
+                val other = values.get(target);
+                if (other != BUSY && other != TAKEN && values.compareAndSet(target, other, BUSY)) {
+                    values.set(target, own);
+                    values.set(slot, TAKEN);
+                    return (V) other;
+                } else if (other == BUSY) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        // a reserved slot is only ever held briefly, by a lower slot swapping its value out
+        private Object claim(final int slot) {
+            while (true) {
+                val value = values.get(slot);
+                if (value != BUSY && values.compareAndSet(slot, value, BUSY)) {
+                    return value;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private static class OnceEachRangeRandomizer implements IntRandomizer {
+        private static final int ROUNDS = 4;
+
+        private final int min;
+        private final long size;
+        private final int halfBits;
+        private final long halfMask;
+        private final AtomicLong cursor = new AtomicLong();
+        private volatile int[] keys;
+
+        private OnceEachRangeRandomizer(final int min, final int max) {
+            this.min = min;
+            this.size = (long) max - min;
+
+            // the permutation domain is the smallest even power of two covering the range
+            val bits = Math.max(2, 64 - Long.numberOfLeadingZeros(Math.max(size - 1, 1)));
+            this.halfBits = (bits + 1) / 2;
+            this.halfMask = (1L << halfBits) - 1;
+        }
+
+        @Override public Integer one() {
+            val index = nextIndex();
+            return index < size ? (int) (min + permute(index)) : null;
+        }
+
+        @Override public int oneInt() {
+            val index = nextIndex();
+            if (index >= size) {
+                throw new NoSuchElementException("All of the values in the range have been used.");
+            }
+            return (int) (min + permute(index));
+        }
+
+        private long nextIndex() {
+            if (keys == null) {
+                generateKeys();
+            }
+            return cursor.getAndUpdate(i -> i < size ? i + 1 : i);
+        }
+
+        // the round keys are generated once, when the first value is requested
+        private synchronized void generateKeys() {
+            if (keys == null) {
+                val random = current();
+                val roundKeys = new int[ROUNDS];
+                for (int r = 0; r < ROUNDS; r++) {
+                    roundKeys[r] = random.nextInt();
+                }
+                keys = roundKeys;
+            }
+        }
+
+        // a Feistel network is a bijection on the domain, so cycle-walking until the value is in range yields a permutation
+        private long permute(final long index) {
+            var value = index;
+            do {
+                value = feistel(value);
+            } while (value >= size);
+            return value;
+        }
+
+        private long feistel(final long value) {
+            var left = value >>> halfBits;
+            var right = value & halfMask;
+
+            for (val key : keys) {
+                val next = left ^ (round(right, key) & halfMask);
+                left = right;
+                right = next;
+            }
+
+            return (left << halfBits) | right;
         }
 
-        @Override public V one() {
-            return values.isEmpty() ? null : values.remove(current().nextInt(values.size()));
+        private static long round(final long value, final int key) {
+            var h = (int) value * 0x9E3779B9 ^ key;
+            h ^= h >>> 16;
+            h *= 0x85EBCA6B;
+            h ^= h >>> 13;
+            return h & 0xFFFFFFFFL;
         }
     }
 
@@ -104,7 +327,7 @@ public final class CoreRandomizers {
      * @return the randomizer
      */
     public static <V> Randomizer<List<V>> listOf(final Randomizer<Integer> countRando, final Randomizer<V> valueRando) {
-        return () -> valueRando.many(countRando.one());
+        return () -> valueRando.many(count(countRando));
     }
 
     /**
@@ -114,9 +337,68 @@ public final class CoreRandomizers {
      * @param valueRando the randomizer used to determine the set values
      * @param <V>        the type of the generated value
      * @return the randomizer
+     * @see #distinctSetOf(Randomizer, Randomizer)
      */
     public static <V> Randomizer<Set<V>> setOf(final Randomizer<Integer> countRando, final Randomizer<V> valueRando) {
-        return () -> new HashSet<>(valueRando.many(countRando.one()));
+        return () -> valueRando.addTo(new HashSet<>(), count(countRando));
+    }
+
+    /**
+     * A randomizer which will only generate values (from the wrapped randomizer) that it has not already generated. If a
+     * unique value cannot be generated after 1000 consecutive attempts, the randomizer is considered exhausted and an
+     * {@link IllegalStateException} is thrown.
+     *
+     * The generated values are tracked in a compact form: numbers and characters by value, and strings by a 64-bit
+     * fingerprint - other types are tracked in a standard set.
+     *
+     * @param valueRando the randomizer used to generate the values
+     * @param <V>        the type of the generated value
+     * @return the randomizer
+     */
+    public static <V> Randomizer<V> unique(final Randomizer<V> valueRando) {
+        return unique(valueRando, DEFAULT_UNIQUE_ATTEMPTS);
+    }
+
+    /**
+     * A randomizer which will only generate values (from the wrapped randomizer) that it has not already generated. If a
+     * unique value cannot be generated after the specified number of consecutive attempts, the randomizer is considered
+     * exhausted and an {@link IllegalStateException} is thrown.
+     *
+     * @param valueRando  the randomizer used to generate the values
+     * @param maxAttempts the maximum number of attempts to generate a unique value
+     * @param <V>         the type of the generated value
+     * @return the randomizer
+     * @see #unique(Randomizer)
+     */
+    public static <V> Randomizer<V> unique(final Randomizer<V> valueRando, final int maxAttempts) {
+        return new UniqueRandomizer<>(valueRando, maxAttempts);
+    }
+
+    /**
+     * A randomizer which will generate a list of distinct random values. The size of the generated list is also random.
+     * An {@link IllegalStateException} is thrown if the value randomizer cannot generate enough distinct values.
+     *
+     * @param countRando the randomizer used to determine the list size
+     * @param valueRando the randomizer used to determine the list values
+     * @param <V>        the type of the generated value
+     * @return the randomizer
+     */
+    public static <V> Randomizer<List<V>> distinctListOf(final Randomizer<Integer> countRando, final Randomizer<V> valueRando) {
+        return () -> unique(valueRando).many(count(countRando));
+    }
+
+    /**
+     * A randomizer which will generate a set of random values, containing exactly the number of values determined by the
+     * count randomizer. An {@link IllegalStateException} is thrown if the value randomizer cannot generate enough
+     * distinct values.
+     *
+     * @param countRando the randomizer used to determine the set size
+     * @param valueRando the randomizer used to determine the set values
+     * @param <V>        the type of the generated value
+     * @return the randomizer
+     */
+    public static <V> Randomizer<Set<V>> distinctSetOf(final Randomizer<Integer> countRando, final Randomizer<V> valueRando) {
+        return () -> new LinkedHashSet<>(distinctListOf(countRando, valueRando).one());
     }
 
     /**
@@ -159,6 +441,9 @@ public final class CoreRandomizers {
     /**
      * A randomizer which will generate an array of random values. The size of the generated array is also random.
      *
+     * The generated array is an <code>Object[]</code>, so it cannot be cast to an array of a specific type - use
+     * {@link #arrayOf(Class, Randomizer, Randomizer)} when a typed array is required.
+     *
      * @param countRando the randomizer used to determine the array size
      * @param valueRando the randomizer used to determine the array values
      * @param <V>        the type of the generated value
@@ -166,7 +451,59 @@ public final class CoreRandomizers {
      */
     @SuppressWarnings("unchecked")
     public static <V> Randomizer<V[]> arrayOf(final Randomizer<Integer> countRando, final Randomizer<V> valueRando) {
-        return () -> valueRando.many(countRando.one()).toArray((V[]) new Object[0]);
+        return () -> valueRando.fill((V[]) new Object[count(countRando)]);
+    }
+
+    /**
+     * A randomizer which will generate a typed array of random values. The size of the generated array is also random.
+     *
+     * @param type       the component type of the array (must not be primitive - see <code>intArrayOf</code>, etc)
+     * @param countRando the randomizer used to determine the array size
+     * @param valueRando the randomizer used to determine the array values
+     * @param <V>        the type of the generated value
+     * @return the randomizer
+     * @throws IllegalArgumentException if the component type is primitive
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> Randomizer<V[]> arrayOf(final Class<V> type, final Randomizer<Integer> countRando, final Randomizer<? extends V> valueRando) {
+        if (type.isPrimitive()) {
+            throw new IllegalArgumentException("The component type (" + type + ") must not be primitive.");
+        }
+        val rando = (Randomizer<V>) valueRando;
+        return () -> rando.fill((V[]) Array.newInstance(type, count(countRando)));
+    }
+
+    /**
+     * A randomizer which will generate an array of random int values. The size of the generated array is also random.
+     *
+     * @param countRando the randomizer used to determine the array size
+     * @param valueRando the randomizer used to determine the array values
+     * @return the randomizer
+     */
+    public static Randomizer<int[]> intArrayOf(final Randomizer<Integer> countRando, final IntRandomizer valueRando) {
+        return () -> valueRando.manyInts(count(countRando));
+    }
+
+    /**
+     * A randomizer which will generate an array of random long values. The size of the generated array is also random.
+     *
+     * @param countRando the randomizer used to determine the array size
+     * @param valueRando the randomizer used to determine the array values
+     * @return the randomizer
+     */
+    public static Randomizer<long[]> longArrayOf(final Randomizer<Integer> countRando, final LongRandomizer valueRando) {
+        return () -> valueRando.manyLongs(count(countRando));
+    }
+
+    /**
+     * A randomizer which will generate an array of random double values. The size of the generated array is also random.
+     *
+     * @param countRando the randomizer used to determine the array size
+     * @param valueRando the randomizer used to determine the array values
+     * @return the randomizer
+     */
+    public static Randomizer<double[]> doubleArrayOf(final Randomizer<Integer> countRando, final DoubleRandomizer valueRando) {
+        return () -> valueRando.manyDoubles(count(countRando));
     }
 
     /**
@@ -178,6 +515,16 @@ public final class CoreRandomizers {
      * @return the randomizer
      */
     public static <V> Randomizer<Stream<V>> streamOf(final Randomizer<Integer> countRando, final Randomizer<V> valueRando) {
-        return () -> valueRando.stream(countRando.one());
+        return () -> valueRando.stream(count(countRando));
+    }
+
+    /**
+     * Resolves the next count value from the given randomizer, without boxing when it is an {@link IntRandomizer}.
+     *
+     * @param countRando the randomizer used to determine the count
+     * @return the count value
+     */
+    static int count(final Randomizer<Integer> countRando) {
+        return countRando instanceof IntRandomizer intRando ? intRando.oneInt() : countRando.one();
     }
 }
@@ -0,0 +1,283 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.NoArgsConstructor;
+import lombok.val;
+
+import java.util.random.RandomGenerator;
+
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static java.lang.Math.*;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A collection of randomizers for generating numbers from statistical distributions (rather than the uniform ranges of
+ * the {@link NumberRandomizers}). These are useful for producing realistic data, such as skewed key popularity (Zipf),
+ * inter-arrival times (exponential), or payload sizes (log-normal).
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class DistributionRandomizers {
+
+    // ln(k!) for k < 10
+    private static final double[] LOG_FACTORIALS = {
+        0d, 0d, 0.6931471805599453, 1.791759469228055, 3.1780538303479458,
+        4.787491742782046, 6.579251212010101, 8.525161361065415, 10.60460290274525, 12.801827480081469
+    };
+
+    /**
+     * Builds a randomizer which will generate values from a Gaussian (normal) distribution.
+     *
+     * @param mean   the mean of the distribution
+     * @param stddev the standard deviation of the distribution (must not be negative)
+     * @return the randomizer
+     */
+    public static DoubleRandomizer aGaussian(final double mean, final double stddev) {
+        if (stddev < 0) {
+            throw new IllegalArgumentException("The standard deviation must not be negative.");
+        }
+        return () -> current().nextGaussian(mean, stddev);
+    }
+
+    /**
+     * Builds a randomizer which will generate values from an exponential distribution, such as the time between events
+     * which occur at a constant average rate.
+     *
+     * @param mean the mean of the distribution (must be greater than zero)
+     * @return the randomizer
+     */
+    public static DoubleRandomizer anExponential(final double mean) {
+        if (mean <= 0) {
+            throw new IllegalArgumentException("The mean must be greater than zero.");
+        }
+        return () -> current().nextExponential() * mean;
+    }
+
+    /**
+     * Builds a randomizer which will generate values from a log-normal distribution, where the logarithm of the value is
+     * normally distributed.
+     *
+     * @param mu    the mean of the logarithm of the values
+     * @param sigma the standard deviation of the logarithm of the values (must not be negative)
+     * @return the randomizer
+     */
+    public static DoubleRandomizer aLogNormal(final double mu, final double sigma) {
+        if (sigma < 0) {
+            throw new IllegalArgumentException("The sigma value must not be negative.");
+        }
+        return () -> exp(mu + sigma * current().nextGaussian());
+    }
+
+    /**
+     * Builds a randomizer which will generate values from a Pareto distribution.
+     *
+     * @param scale the scale (minimum value) of the distribution (must be greater than zero)
+     * @param shape the shape of the distribution (must be greater than zero)
+     * @return the randomizer
+     */
+    public static DoubleRandomizer aPareto(final double scale, final double shape) {
+        if (scale <= 0 || shape <= 0) {
+            throw new IllegalArgumentException("The scale and shape must be greater than zero.");
+        }
+        val inverseShape = 1d / shape;
+        return () -> scale / pow(1d - current().nextDouble(), inverseShape);
+    }
+
+    /**
+     * Builds a randomizer which will generate values from a Poisson distribution, such as the number of events occurring
+     * in a fixed interval.
+     *
+     * @param mean the mean of the distribution (must be greater than zero)
+     * @return the randomizer
+     */
+    public static IntRandomizer aPoisson(final double mean) {
+        if (mean <= 0 || !Double.isFinite(mean)) {
+            throw new IllegalArgumentException("The mean must be finite and greater than zero.");
+        }
+        return mean < 10 ? smallPoisson(mean) : largePoisson(mean);
+    }
+
+    /**
+     * Builds a randomizer which will generate ranks (from 1 to <code>count</code> inclusive) from a Zipf distribution,
+     * where the probability of rank <code>k</code> is proportional to <code>1/k^exponent</code>.
+     *
+     * The values are sampled using rejection-inversion, so each value takes constant time and memory, no matter how many
+     * elements there are.
+     *
+     * @param count    the number of elements (must be greater than zero)
+     * @param exponent the exponent of the distribution (must be greater than zero)
+     * @return the randomizer
+     */
+    public static IntRandomizer aZipf(final int count, final double exponent) {
+        if (count < 1) {
+            throw new IllegalArgumentException("The element count must be greater than zero.");
+        }
+        if (exponent <= 0) {
+            throw new IllegalArgumentException("The exponent must be greater than zero.");
+        }
+
+        val sampler = new ZipfSampler(count, exponent);
+        return () -> sampler.sample(current());
+    }
+
+    /**
+     * Builds a randomizer which will select from the given options with Zipf-distributed popularity - the first option
+     * is the most popular, the second option the next most popular, and so on.
+     *
+     * @param exponent the exponent of the distribution (must be greater than zero)
+     * @param options  the options, in order of popularity
+     * @param <V>      the type of the generated value
+     * @return the randomizer
+     */
+    @SafeVarargs
+    public static <V> Randomizer<V> zipfOneOf(final double exponent, final V... options) {
+        val ranks = aZipf(options.length, exponent);
+        return () -> options[ranks.oneInt() - 1];
+    }
+
+    /**
+     * Builds a randomizer which will generate indices (from 0 to <code>weights.length</code> exclusive) from a discrete
+     * distribution, where each index is generated with a probability proportional to its weight. The weights are
+     * precomputed into an alias table, so each value takes constant time.
+     *
+     * @param weights the weights of each index
+     * @return the randomizer
+     */
+    public static IntRandomizer aDiscrete(final double... weights) {
+        val table = new AliasTable(weights);
+        return () -> table.next(current());
+    }
+
+    // multiplication of uniform values (Knuth) - fast for small means
+    private static IntRandomizer smallPoisson(final double mean) {
+        val limit = exp(-mean);
+        return () -> {
+            val random = current();
+            int k = 0;
+            double product = random.nextDouble();
+            while (product > limit) {
+                k++;
+                product *= random.nextDouble();
+            }
+            return k;
+        };
+    }
+
+    // transformed rejection with squeeze (Hormann, PTRS) - constant time for large means
+    private static IntRandomizer largePoisson(final double mean) {
+        val logMean = log(mean);
+        val b = 0.931 + 2.53 * sqrt(mean);
+        val a = -0.059 + 0.02483 * b;
+        val logInverseAlpha = log(1.1239 + 1.1328 / (b - 3.4));
+        val vr = 0.9277 - 3.6224 / (b - 2);
+
+        return () -> {
+            val random = current();
+            while (true) {
+                val u = random.nextDouble() - 0.5;
+                val v = random.nextDouble();
+                val us = 0.5 - abs(u);
+                val k = (long) floor((2 * a / us + b) * u + mean + 0.43);
+
+                if (us >= 0.07 && v <= vr) {
+                    return (int) k;
+                }
+                if (k < 0 || (us < 0.013 && v > us)) {
+                    continue;
+                }
+                if (log(v) + logInverseAlpha - log(a / (us * us) + b) <= -mean + k * logMean - logFactorial(k)) {
+                    return (int) k;
+                }
+            }
+        };
+    }
+
+    // ln(k!) using a table for small values and the Stirling series otherwise
+    private static double logFactorial(final long k) {
+        if (k < LOG_FACTORIALS.length) {
+            return LOG_FACTORIALS[(int) k];
+        }
+        val x = k + 1d;
+        val x2 = x * x;
+        return (x - 0.5) * log(x) - x + 0.5 * log(2 * PI) + (1d / 12 - (1d / 360 - 1d / (1260 * x2)) / x2) / x;
+    }
+
+    /**
+     * Zipf sampling using the rejection-inversion method described by Hormann and Derflinger in "Rejection-inversion to
+     * generate variates from monotone discrete distributions".
+     */
+    private static final class ZipfSampler {
+
+        private final int count;
+        private final double exponent;
+        private final double hIntegralX1;
+        private final double hIntegralCount;
+        private final double s;
+
+        private ZipfSampler(final int count, final double exponent) {
+            this.count = count;
+            this.exponent = exponent;
+            this.hIntegralX1 = hIntegral(1.5) - 1d;
+            this.hIntegralCount = hIntegral(count + 0.5);
+            this.s = 2d - hIntegralInverse(hIntegral(2.5) - h(2));
+        }
+
+        private int sample(final RandomGenerator random) {
+            while (true) {
+                val u = hIntegralCount + random.nextDouble() * (hIntegralX1 - hIntegralCount);
+                val x = hIntegralInverse(u);
+
+                int k = (int) (x + 0.5);
+                if (k < 1) {
+                    k = 1;
+                } else if (k > count) {
+                    k = count;
+                }
+
+                if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                    return k;
+                }
+            }
+        }
+
+        private double hIntegral(final double x) {
+            val logX = log(x);
+            return helper2((1d - exponent) * logX) * logX;
+        }
+
+        private double h(final double x) {
+            return exp(-exponent * log(x));
+        }
+
+        private double hIntegralInverse(final double x) {
+            var t = x * (1d - exponent);
+            if (t < -1d) {
+                t = -1d;
+            }
+            return exp(helper1(t) * x);
+        }
+
+        // log(1 + x) / x, accurate for small values of x
+        private static double helper1(final double x) {
+            return abs(x) > 1e-8 ? log1p(x) / x : 1d - x * (0.5 - x * (1d / 3 - 0.25 * x));
+        }
+
+        // (exp(x) - 1) / x, accurate for small values of x
+        private static double helper2(final double x) {
+            return abs(x) > 1e-8 ? expm1(x) / x : 1d + x * 0.5 * (1d + x / 3 * (1d + 0.25 * x));
+        }
+    }
+}
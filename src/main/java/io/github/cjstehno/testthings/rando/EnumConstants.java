@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.NoArgsConstructor;
+import lombok.val;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A registry of enum constants, so that the constants of an enum type are only resolved (and copied) once per type,
+ * rather than each time they are needed.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class EnumConstants {
+
+    private static final ClassValue<Object[]> CONSTANTS = new ClassValue<>() {
+        @Override protected Object[] computeValue(final Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
+
+    /**
+     * Retrieves the shared array of constants for the given enum type. The returned array is shared, and must not be
+     * modified.
+     *
+     * @param enumType the enum type
+     * @param <E>      the enum type
+     * @return the shared array of enum constants
+     * @throws IllegalArgumentException if the type is not an enum type
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<E>> E[] of(final Class<E> enumType) {
+        val constants = CONSTANTS.get(enumType);
+        if (constants == null) {
+            throw new IllegalArgumentException("The type (" + enumType.getName() + ") is not an enum type.");
+        }
+        return (E[]) constants;
+    }
+}
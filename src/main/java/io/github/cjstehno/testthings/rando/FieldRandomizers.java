@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+/**
+ * The configuration interface for the type-driven randomizers (see {@link ObjectRandomizers#forType(Class, java.util.function.Consumer)}),
+ * used to override the default randomizers used for the fields of the generated type.
+ *
+ * A field-name configuration takes precedence over a field-type configuration, which takes precedence over the default
+ * randomizer for the field type.
+ */
+public interface FieldRandomizers {
+
+    /**
+     * Configures the randomizer used to generate the value of the named field (or record component).
+     *
+     * @param name       the field name
+     * @param randomizer the randomizer
+     * @return a reference to this configuration
+     */
+    FieldRandomizers field(final String name, final Randomizer<?> randomizer);
+
+    /**
+     * Configures the randomizer used to generate the values of all fields (or record components) of the given type.
+     *
+     * @param type       the field type
+     * @param randomizer the randomizer
+     * @return a reference to this configuration
+     */
+    FieldRandomizers type(final Class<?> type, final Randomizer<?> randomizer);
+
+    /**
+     * Configures the named field (or record component) to be ignored - it will be left with its initial value (or the
+     * default value for a record component).
+     *
+     * @param name the field name
+     * @return a reference to this configuration
+     */
+    FieldRandomizers ignore(final String name);
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.val;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A randomizer which only generates the values of another randomizer which match a predicate (see
+ * {@link Randomizer#filter(Predicate, int)}).
+ *
+ * Rejected values are generated again, up to a maximum number of consecutive attempts, after which an
+ * {@link IllegalStateException} is thrown - a predicate which (almost) never matches fails fast, rather than looping
+ * forever. The number of attempted and accepted values are counted, so that the acceptance rate of the filter may be
+ * checked.
+ *
+ * @param <T> the type of the generated value
+ */
+public final class FilteredRandomizer<T> implements Randomizer<T> {
+
+    static final int DEFAULT_MAX_ATTEMPTS = 100;
+
+    private final Randomizer<T> randomizer;
+    private final Predicate<? super T> predicate;
+    private final int maxAttempts;
+    private final LongAdder attempted = new LongAdder();
+    private final LongAdder accepted = new LongAdder();
+
+    FilteredRandomizer(final Randomizer<T> randomizer, final Predicate<? super T> predicate, final int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("The max attempts must be greater than zero.");
+        }
+        this.randomizer = randomizer;
+        this.predicate = predicate;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override public T one() {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            val value = randomizer.one();
+            if (predicate.test(value)) {
+                attempted.add(attempt);
+                accepted.increment();
+                return value;
+            }
+        }
+
+        attempted.add(maxAttempts);
+        throw new IllegalStateException(
+            "Unable to generate a matching value after %d attempts (acceptance rate %.4f) - the filter may be too restrictive.".formatted(
+                maxAttempts, getAcceptanceRate()
+            )
+        );
+    }
+
+    /**
+     * Retrieves the number of values generated by the wrapped randomizer.
+     *
+     * @return the number of attempted values
+     */
+    public long getAttempted() {
+        return attempted.sum();
+    }
+
+    /**
+     * Retrieves the number of values which matched the predicate.
+     *
+     * @return the number of accepted values
+     */
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    /**
+     * Retrieves the fraction of generated values which matched the predicate (or 1, if no values have been generated).
+     *
+     * @return the acceptance rate, between 0 and 1
+     */
+    public double getAcceptanceRate() {
+        val attempts = attempted.sum();
+        return attempts == 0 ? 1d : (double) accepted.sum() / attempts;
+    }
+}
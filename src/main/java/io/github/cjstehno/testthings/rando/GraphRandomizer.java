@@ -0,0 +1,296 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.cjstehno.testthings.rando.NumberRandomizers.anIntBetween;
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A randomizer which generates graphs of objects based on the structure of their types (see {@link TypeModel}). Fields
+ * (or record components) which are not handled by a configured or default randomizer are populated with nested objects,
+ * collections (lists and sets) or arrays - recursively, up to the maximum depth.
+ *
+ * The generation plan of each type is resolved once per randomizer; each generated graph tracks its own objects by type,
+ * so that they may be reused as shared references (and cycles).
+ *
+ * @param <O> the type of the root object
+ */
+class GraphRandomizer<O> implements Randomizer<O> {
+
+    private static final Set<Class<?>> IMMUTABLE_LEAVES = Set.of(
+        String.class, Integer.class, Long.class, Double.class, Float.class, Short.class, Byte.class, Boolean.class,
+        Character.class, BigInteger.class, BigDecimal.class
+    );
+
+    private final Class<O> type;
+    private final Config config;
+    private final Map<Class<?>, Plan> plans = new ConcurrentHashMap<>();
+    private final Map<Randomizer<?>, Object[]> leafPools = new ConcurrentHashMap<>();
+
+    GraphRandomizer(final Class<O> type, final Config config) {
+        this.type = type;
+        this.config = config;
+        plan(type);
+    }
+
+    @Override @SuppressWarnings("unchecked") public O one() {
+        try {
+            return (O) new Graph().generate(type, 0);
+        } catch (final RuntimeException | Error ex) {
+            throw ex;
+        } catch (final Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private Plan plan(final Class<?> target) {
+        return plans.computeIfAbsent(target, t -> new Plan(t, config));
+    }
+
+    // only the values of the default randomizers are pooled - configured randomizers may depend on generating every value
+    private Object leaf(final Class<?> leafType, final Randomizer<?> rando) {
+        if (config.leafPoolSize < 1 || !IMMUTABLE_LEAVES.contains(leafType) || rando != TypeRandomizer.defaultRandomizer(leafType)) {
+            return rando.one();
+        }
+
+        val pool = leafPools.computeIfAbsent(rando, r -> new Object[config.leafPoolSize]);
+        val index = current().nextInt(pool.length);
+        synchronized (pool) {
+            if (pool[index] == null) {
+                pool[index] = rando.one();
+            }
+            return pool[index];
+        }
+    }
+
+    /**
+     * The state of a single generated graph - the generated objects of each type, available for reuse.
+     */
+    private final class Graph {
+
+        private final Map<Class<?>, List<Object>> generated = new HashMap<>();
+
+        private Object generate(final Class<?> target, final int depth) throws Throwable {
+            val existing = generated.get(target);
+            if (existing != null && config.reuseProbability > 0 && current().nextDouble() < config.reuseProbability) {
+                return existing.get(current().nextInt(existing.size()));
+            }
+
+            val plan = plan(target);
+            val model = plan.model;
+
+            if (model.isRecord()) {
+                val args = new Object[plan.slots.length];
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = value(plan.slots[i], depth);
+                }
+                return register(target, model.getConstructor().invokeExact(args));
+            }
+
+            // registered before it is populated, so that nested objects may refer back to it
+            val instance = register(target, (Object) model.getConstructor().invokeExact());
+            for (val slot : plan.slots) {
+                if (!slot.ignored) {
+                    slot.setter.invokeExact(instance, value(slot, depth));
+                }
+            }
+            return instance;
+        }
+
+        private Object value(final SlotPlan slot, final int depth) throws Throwable {
+            if (slot.ignored) {
+                return slot.defaultValue;
+            } else if (slot.randomizer != null) {
+                return leaf(slot.type, slot.randomizer);
+            }
+
+            val nestedDepth = depth + 1;
+            val type = slot.type;
+            val elementType = slot.elementType;
+            if (type.isArray()) {
+                val count = nestedDepth > config.maxDepth ? 0 : CoreRandomizers.count(config.fanOut);
+                val array = Array.newInstance(elementType, count);
+                for (int i = 0; i < count; i++) {
+                    Array.set(array, i, element(elementType, nestedDepth));
+                }
+                return array;
+
+            } else if (Collection.class.isAssignableFrom(type)) {
+                val collection = slot.newCollection();
+                if (collection != null && elementType != null && nestedDepth <= config.maxDepth) {
+                    val count = CoreRandomizers.count(config.fanOut);
+                    for (int i = 0; i < count; i++) {
+                        collection.add(element(elementType, nestedDepth));
+                    }
+                }
+                return collection;
+
+            } else if (nestedDepth <= config.maxDepth && isGenerated(type)) {
+                return generate(type, nestedDepth);
+            }
+
+            return slot.defaultValue;
+        }
+
+        private Object element(final Class<?> elementType, final int depth) throws Throwable {
+            val elementRando = config.resolve(elementType);
+            if (elementRando != null) {
+                return leaf(elementType, elementRando);
+            }
+            return isGenerated(elementType) ? generate(elementType, depth) : null;
+        }
+
+        // the instances are only retained when they may be reused
+        private Object register(final Class<?> target, final Object instance) {
+            if (config.reuseProbability > 0) {
+                generated.computeIfAbsent(target, t -> new ArrayList<>()).add(instance);
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * The generation plan of a type - how the value of each of its slots is generated.
+     */
+    private static final class Plan {
+
+        private final TypeModel model;
+        private final SlotPlan[] slots;
+
+        private Plan(final Class<?> target, final Config config) {
+            this.model = TypeModel.of(target);
+            this.slots = model.getSlots().stream().map(slot -> new SlotPlan(slot, config)).toArray(SlotPlan[]::new);
+        }
+    }
+
+    /**
+     * How the value of a single slot is generated.
+     */
+    private static final class SlotPlan {
+
+        private final Class<?> type;
+        private final boolean ignored;
+        private final Randomizer<?> randomizer;
+        private final Class<?> elementType;
+        private final MethodHandle setter;
+        private final Object defaultValue;
+
+        private SlotPlan(final TypeModel.Slot slot, final Config config) {
+            this.type = slot.getType();
+            this.ignored = config.isIgnored(slot);
+            this.randomizer = ignored ? null : config.resolve(slot);
+            this.elementType = type.isArray() ? type.getComponentType() : elementType(slot.getGenericType());
+            this.setter = slot.getSetter() != null ? slot.getSetter().asType(methodType(void.class, Object.class, Object.class)) : null;
+            this.defaultValue = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+        }
+
+        private Collection<Object> newCollection() {
+            if (type.isAssignableFrom(ArrayList.class)) {
+                return new ArrayList<>();
+            } else if (type.isAssignableFrom(LinkedHashSet.class)) {
+                return new LinkedHashSet<>();
+            }
+            return null;
+        }
+    }
+
+    // whether the type may be generated as a nested object
+    private static boolean isGenerated(final Class<?> target) {
+        return !target.isPrimitive() && !target.isInterface() && !target.isArray() && !target.isEnum()
+            && !Modifier.isAbstract(target.getModifiers())
+            && !target.getName().startsWith("java.");
+    }
+
+    // the element type of a parameterized collection type (or null if it cannot be determined)
+    private static Class<?> elementType(final Type genericType) {
+        if (genericType instanceof ParameterizedType parameterized && parameterized.getActualTypeArguments().length == 1) {
+            return rawType(parameterized.getActualTypeArguments()[0]);
+        }
+        return null;
+    }
+
+    private static Class<?> rawType(final Type type) {
+        if (type instanceof Class<?> cls) {
+            return cls;
+        } else if (type instanceof ParameterizedType parameterized) {
+            return rawType(parameterized.getRawType());
+        } else if (type instanceof WildcardType wildcard) {
+            return rawType(wildcard.getUpperBounds()[0]);
+        }
+        return null;
+    }
+
+    /**
+     * The default {@link GraphRandomizers} implementation.
+     */
+    static class Config extends TypeRandomizer.Config implements GraphRandomizers {
+
+        private int maxDepth = 3;
+        private Randomizer<Integer> fanOut = anIntBetween(1, 6);
+        private double reuseProbability;
+        private int leafPoolSize;
+
+        @Override public GraphRandomizers maxDepth(final int depth) {
+            if (depth < 0) {
+                throw new IllegalArgumentException("The max depth must not be negative.");
+            }
+            this.maxDepth = depth;
+            return this;
+        }
+
+        @Override public GraphRandomizers fanOut(final Randomizer<Integer> randomizer) {
+            this.fanOut = randomizer;
+            return this;
+        }
+
+        @Override public GraphRandomizers reuse(final double probability) {
+            if (probability < 0 || probability > 1) {
+                throw new IllegalArgumentException("The reuse probability must be between 0 and 1.");
+            }
+            this.reuseProbability = probability;
+            return this;
+        }
+
+        @Override public GraphRandomizers leafPool(final int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("The leaf pool size must not be negative.");
+            }
+            this.leafPoolSize = size;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+/**
+ * The configuration interface for the object-graph randomizers (see
+ * {@link ObjectRandomizers#graphOf(Class, java.util.function.Consumer)}), which extends the field randomizer
+ * configuration with the shape of the generated graph.
+ */
+public interface GraphRandomizers extends FieldRandomizers {
+
+    /**
+     * Configures the maximum depth of the generated graph (defaults to 3). The root object is at depth zero - nested
+     * objects beyond the maximum depth are left <code>null</code>, and collections beyond it are left empty.
+     *
+     * @param depth the maximum depth
+     * @return a reference to this configuration
+     */
+    GraphRandomizers maxDepth(final int depth);
+
+    /**
+     * Configures the randomizer used to determine the number of elements in each generated collection or array
+     * (defaults to between 1 and 5).
+     *
+     * @param randomizer the randomizer
+     * @return a reference to this configuration
+     */
+    GraphRandomizers fanOut(final Randomizer<Integer> randomizer);
+
+    /**
+     * Configures the probability (between 0 and 1) that a nested object is a reference to a previously generated object
+     * of the same type (from the same graph), rather than a new object (defaults to 0). Since an object is available for
+     * reuse as soon as it is created, reuse may produce cycles.
+     *
+     * @param probability the probability of reusing an existing object
+     * @return a reference to this configuration
+     */
+    GraphRandomizers reuse(final double probability);
+
+    /**
+     * Configures the number of distinct values generated for each immutable leaf type (e.g. strings, boxed numbers and
+     * big numbers), which are then shared across the generated graphs - this reduces the memory used by very large
+     * graphs (defaults to 0, meaning every leaf value is generated). Only the values of the default randomizers are
+     * pooled; the values of randomizers configured by field or type are always generated.
+     *
+     * @param size the number of distinct values of each leaf type
+     * @return a reference to this configuration
+     */
+    GraphRandomizers leafPool(final int size);
+}
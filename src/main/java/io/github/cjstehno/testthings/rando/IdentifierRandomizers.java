@@ -0,0 +1,185 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.NoArgsConstructor;
+import lombok.val;
+
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A collection of randomizers for generating identifiers, such as UUIDs, ULIDs and Snowflake-style ids. Unlike
+ * {@link UUID#randomUUID()}, which uses a <code>SecureRandom</code>, these draw their random bits from the
+ * {@link SharedRandom}, so they are fast and repeatable for a given seed.
+ *
+ * The time-ordered identifiers take their timestamp from a clock (the current time, by default), which may be provided
+ * to make them fully repeatable.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class IdentifierRandomizers {
+
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long TIMESTAMP_48_MASK = 0xFFFF_FFFF_FFFFL;
+
+    /**
+     * Builds a randomizer which generates random (version 4) UUIDs.
+     *
+     * @return the randomizer
+     */
+    public static Randomizer<UUID> aUuid() {
+        return () -> {
+            val random = current();
+            return new UUID(version4Msb(random.nextLong()), variantLsb(random.nextLong()));
+        };
+    }
+
+    /**
+     * Fills the array with the bits of random (version 4) UUIDs, as pairs of most and least significant bits, such that
+     * <code>new UUID(pairs[i], pairs[i + 1])</code> is a UUID for each even index.
+     *
+     * @param pairs the array to be filled (its length must be even)
+     * @return the filled array
+     */
+    public static long[] fillUuids(final long[] pairs) {
+        if (pairs.length % 2 != 0) {
+            throw new IllegalArgumentException("The array length must be even.");
+        }
+
+        val random = current();
+        for (int i = 0; i < pairs.length; i += 2) {
+            pairs[i] = version4Msb(random.nextLong());
+            pairs[i + 1] = variantLsb(random.nextLong());
+        }
+        return pairs;
+    }
+
+    /**
+     * Builds a randomizer which generates time-ordered (version 7) UUIDs, using the current time.
+     *
+     * @return the randomizer
+     */
+    public static Randomizer<UUID> aUuidV7() {
+        return aUuidV7(System::currentTimeMillis);
+    }
+
+    /**
+     * Builds a randomizer which generates time-ordered (version 7) UUIDs, with the timestamp (in epoch milliseconds)
+     * provided by the clock.
+     *
+     * @param clock the clock providing epoch milliseconds
+     * @return the randomizer
+     */
+    public static Randomizer<UUID> aUuidV7(final LongSupplier clock) {
+        return () -> {
+            val random = current();
+            val msb = ((clock.getAsLong() & TIMESTAMP_48_MASK) << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+            return new UUID(msb, variantLsb(random.nextLong()));
+        };
+    }
+
+    /**
+     * Builds a randomizer which generates time-ordered ULIDs (26 character, Crockford base32 strings), using the current
+     * time.
+     *
+     * @return the randomizer
+     */
+    public static Randomizer<String> aUlid() {
+        return aUlid(System::currentTimeMillis);
+    }
+
+    /**
+     * Builds a randomizer which generates time-ordered ULIDs (26 character, Crockford base32 strings), with the
+     * timestamp (in epoch milliseconds) provided by the clock.
+     *
+     * @param clock the clock providing epoch milliseconds
+     * @return the randomizer
+     */
+    public static Randomizer<String> aUlid(final LongSupplier clock) {
+        return () -> {
+            val random = current();
+            val time = clock.getAsLong() & TIMESTAMP_48_MASK;
+            val high = random.nextLong() & 0xFFFF;
+            val low = random.nextLong();
+
+            val chars = new char[26];
+
+            // 48 bits of time as 10 characters (the first holds only 3 bits)
+            for (int c = 9; c >= 0; c--) {
+                chars[c] = CROCKFORD[(int) ((time >>> ((9 - c) * 5)) & 0x1F)];
+            }
+
+            // 80 bits of randomness (16 high and 64 low) as 16 characters
+            for (int c = 25; c >= 10; c--) {
+                val shift = (25 - c) * 5;
+                final long bits;
+                if (shift + 5 <= 64) {
+                    bits = low >>> shift;
+                } else if (shift < 64) {
+                    bits = (low >>> shift) | (high << (64 - shift));
+                } else {
+                    bits = high >>> (shift - 64);
+                }
+                chars[c] = CROCKFORD[(int) (bits & 0x1F)];
+            }
+
+            return new String(chars);
+        };
+    }
+
+    /**
+     * Builds a randomizer which generates Snowflake-style ids: 41 bits of milliseconds since the epoch, 10 bits of worker
+     * id and 12 bits of sequence - the worker id and sequence bits are random.
+     *
+     * @param clock       the clock providing epoch milliseconds
+     * @param epochMillis the custom epoch (in epoch milliseconds) of the timestamps
+     * @return the randomizer
+     */
+    public static LongRandomizer aSnowflakeId(final LongSupplier clock, final long epochMillis) {
+        return () -> snowflake(clock.getAsLong() - epochMillis, current().nextLong() & 0x3F_FFFFL);
+    }
+
+    /**
+     * Builds a randomizer which generates Snowflake-style ids: 41 bits of milliseconds since the epoch, 10 bits of worker
+     * id and 12 bits of sequence - the sequence bits are random.
+     *
+     * @param clock       the clock providing epoch milliseconds
+     * @param epochMillis the custom epoch (in epoch milliseconds) of the timestamps
+     * @param workerId    the worker id (0-1023)
+     * @return the randomizer
+     */
+    public static LongRandomizer aSnowflakeId(final LongSupplier clock, final long epochMillis, final int workerId) {
+        if (workerId < 0 || workerId > 1023) {
+            throw new IllegalArgumentException("The worker id must be between 0 and 1023.");
+        }
+        return () -> snowflake(clock.getAsLong() - epochMillis, ((long) workerId << 12) | (current().nextLong() & 0xFFFL));
+    }
+
+    private static long snowflake(final long timestamp, final long workerAndSequence) {
+        return ((timestamp & 0x1FF_FFFF_FFFFL) << 22) | workerAndSequence;
+    }
+
+    private static long version4Msb(final long bits) {
+        return (bits & ~0xF000L) | 0x4000L;
+    }
+
+    private static long variantLsb(final long bits) {
+        return (bits & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+    }
+}
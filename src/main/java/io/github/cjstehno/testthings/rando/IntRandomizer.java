@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Randomizer} specialized for primitive <code>int</code> values. The primitive methods generate values without
+ * boxing them, while the {@link Randomizer} methods are still available for use with the general-purpose randomizers.
+ */
+@FunctionalInterface
+public interface IntRandomizer extends Randomizer<Integer> {
+
+    /**
+     * Used to generate a single random <code>int</code> value.
+     *
+     * @return a random int value
+     */
+    int oneInt();
+
+    /**
+     * Used to generate a single random instance of the target class - this is the boxed form of {@link #oneInt()}.
+     *
+     * @return a random instance of the target class
+     */
+    @Override default Integer one() {
+        return oneInt();
+    }
+
+    /**
+     * Used to generate an array of <code>count</code> randomly generated <code>int</code> values.
+     *
+     * @param count the number of items in the array
+     * @return an array of randomly generated values
+     */
+    default int[] manyInts(final int count) {
+        return fillInts(new int[count]);
+    }
+
+    /**
+     * Used to fill the given array with randomly generated <code>int</code> values. The array may be reused across
+     * calls, so that batches of values may be generated without allocating a new array for each batch.
+     *
+     * @param target the array to be filled
+     * @return the filled array
+     */
+    default int[] fillInts(final int[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = oneInt();
+        }
+
+        return target;
+    }
+
+    /**
+     * Used to generate a stream of <code>count</code> randomly generated <code>int</code> values. The values are
+     * generated lazily, as they are consumed by the stream.
+     *
+     * @param count the number of items in the stream
+     * @return a stream of randomly generated values
+     */
+    default IntStream ints(final long count) {
+        return ints().limit(count);
+    }
+
+    /**
+     * Used to generate an unbounded stream of randomly generated <code>int</code> values. The values are generated
+     * lazily, so a short-circuiting operation should be used to terminate the stream.
+     *
+     * @return an unbounded stream of randomly generated values
+     */
+    default IntStream ints() {
+        return IntStream.generate(this::oneInt);
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.val;
+
+/**
+ * A compact open-addressing hash set of primitive <code>long</code> values (no boxing, one array slot per value).
+ */
+final class LongHashSet {
+
+    private static final double LOAD_FACTOR = 0.6;
+
+    private long[] slots;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+    private int resizeAt;
+
+    LongHashSet() {
+        this(64);
+    }
+
+    LongHashSet(final int expectedSize) {
+        allocate(Math.max(16, Integer.highestOneBit((int) Math.min(expectedSize / LOAD_FACTOR, 1 << 29)) << 1));
+    }
+
+    /**
+     * Adds the value to the set.
+     *
+     * @param value the value
+     * @return true if the value was added, false if it was already in the set
+     */
+    boolean add(final long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = slot(value, mask);
+        while (slots[index] != 0) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        slots[index] = value;
+        if (++size >= resizeAt) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the number of values in the set.
+     *
+     * @return the size of the set
+     */
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        val old = slots;
+        allocate(old.length << 1);
+
+        for (val value : old) {
+            if (value != 0) {
+                int index = slot(value, mask);
+                while (slots[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = value;
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        slots = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int slot(final long value, final int mask) {
+        // murmur3 finalizer, so that sequential values are spread across the table
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Function;
+
+/**
+ * A randomizer which transforms the values of another randomizer (see {@link Randomizer#map(Function)}). Mapping a
+ * mapped randomizer composes the functions, rather than wrapping the randomizer again, so a chain of <code>map</code>
+ * calls generates each value with a single call to the source randomizer.
+ *
+ * @param <S> the type of the source value
+ * @param <T> the type of the generated value
+ */
+@RequiredArgsConstructor
+final class MappedRandomizer<S, T> implements Randomizer<T> {
+
+    private final Randomizer<S> source;
+    private final Function<? super S, ? extends T> mapper;
+
+    @Override public T one() {
+        return mapper.apply(source.one());
+    }
+
+    @Override public <R> Randomizer<R> map(final Function<? super T, ? extends R> next) {
+        return new MappedRandomizer<S, R>(source, mapper.andThen(next));
+    }
+}
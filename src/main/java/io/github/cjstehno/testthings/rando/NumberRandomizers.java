@@ -37,7 +37,7 @@ public final class NumberRandomizers {
      * @param max the max value (exclusive)
      * @return the randomizer
      */
-    public static Randomizer<Integer> anIntBetween(final int min, final int max) {
+    public static IntRandomizer anIntBetween(final int min, final int max) {
         return () -> current().nextInt(min, max);
     }
 
@@ -48,7 +48,7 @@ public final class NumberRandomizers {
      * @param max the max value (exclusive)
      * @return the randomizer
      */
-    public static Randomizer<Long> aLongBetween(final long min, final long max) {
+    public static LongRandomizer aLongBetween(final long min, final long max) {
         return () -> current().nextLong(min, max);
     }
 
@@ -58,7 +58,7 @@ public final class NumberRandomizers {
      * @return the randomizer
      */
     public static Randomizer<BigInteger> aBigInteger() {
-        return () -> BigInteger.valueOf(anInt().one());
+        return () -> BigInteger.valueOf(anInt().oneInt());
     }
 
     /**
@@ -67,7 +67,7 @@ public final class NumberRandomizers {
      * @return the randomizer
      */
     public static Randomizer<BigDecimal> aBigDecimal() {
-        return () -> BigDecimal.valueOf(aDouble().one());
+        return () -> BigDecimal.valueOf(aDouble().oneDouble());
     }
 
     /**
@@ -88,7 +88,7 @@ public final class NumberRandomizers {
      * @param max the max value (exclusive)
      * @return the randomizer
      */
-    public static Randomizer<Double> aDoubleBetween(final double min, final double max) {
+    public static DoubleRandomizer aDoubleBetween(final double min, final double max) {
         return () -> current().nextDouble(min, max);
     }
 
@@ -106,7 +106,7 @@ public final class NumberRandomizers {
      *
      * @return the randomizer
      */
-    public static Randomizer<Integer> anInt() {
+    public static IntRandomizer anInt() {
         return () -> current().nextInt();
     }
 
@@ -124,7 +124,7 @@ public final class NumberRandomizers {
      *
      * @return the randomizer
      */
-    public static Randomizer<Long> aLong() {
+    public static LongRandomizer aLong() {
         return () -> current().nextLong();
     }
 
@@ -133,7 +133,7 @@ public final class NumberRandomizers {
      *
      * @return the randomizer
      */
-    public static Randomizer<Double> aDouble() {
+    public static DoubleRandomizer aDouble() {
         return () -> current().nextDouble();
     }
 
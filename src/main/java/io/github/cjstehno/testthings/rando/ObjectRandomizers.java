@@ -19,6 +19,7 @@ import io.github.cjstehno.testthings.inject.Injections;
 import io.github.cjstehno.testthings.inject.Injector;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -27,7 +28,8 @@ import static io.github.cjstehno.testthings.inject.Injector.injector;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
- * Randomizers useful for generating more complex objects using the injector framework.
+ * Randomizers useful for generating more complex objects using the injector framework, or based on the structure of
+ * the object type.
  */
 @NoArgsConstructor(access = PRIVATE)
 public final class ObjectRandomizers {
@@ -110,6 +112,72 @@ public final class ObjectRandomizers {
         return new ObjectRandomizer<O>(() -> instance, injector(config));
     }
 
+    /**
+     * Creates a randomizer to generate instances of the given type, based on its structure. Records are created using
+     * their canonical constructor; other classes are created using their no-argument constructor and then have their
+     * (non-static, non-final) fields populated, including inherited fields.
+     *
+     * The value of each field (or record component) is generated using a default randomizer for its type: the primitive
+     * and boxed types, strings, big numbers and enums are supported - fields of other types are left unpopulated. The
+     * type is inspected once, and the constructor and fields are compiled into method handles, so generating instances
+     * does not use reflection.
+     *
+     * @param type the type of object to be generated
+     * @return the randomizer
+     * @param <O> the type of the randomizer
+     * @throws IllegalArgumentException if the type is not a record and has no no-argument constructor
+     */
+    public static <O> Randomizer<O> forType(final Class<O> type) {
+        return forType(type, config -> {});
+    }
+
+    /**
+     * Creates a randomizer to generate instances of the given type, based on its structure, with the field randomizers
+     * overridden by the provided configuration. See {@link #forType(Class)} for details.
+     *
+     * @param type the type of object to be generated
+     * @param config the field randomizer configuration
+     * @return the randomizer
+     * @param <O> the type of the randomizer
+     * @throws IllegalArgumentException if the type is not a record and has no no-argument constructor
+     */
+    public static <O> Randomizer<O> forType(final Class<O> type, final Consumer<FieldRandomizers> config) {
+        val fieldRandomizers = new TypeRandomizer.Config();
+        config.accept(fieldRandomizers);
+        return new TypeRandomizer<>(type, fieldRandomizers);
+    }
+
+    /**
+     * Creates a randomizer to generate graphs of objects, with the given type as the root, based on the structure of the
+     * types. Fields are populated as described for {@link #forType(Class)}; in addition, fields of other (concrete,
+     * non-JDK) types are populated with nested objects, list and set fields with collections of elements (based on their
+     * generic type), and array fields with arrays - recursively, up to the maximum depth of the graph.
+     *
+     * @param type the type of the root object
+     * @return the randomizer
+     * @param <O> the type of the randomizer
+     * @throws IllegalArgumentException if the type is not a record and has no no-argument constructor
+     */
+    public static <O> Randomizer<O> graphOf(final Class<O> type) {
+        return graphOf(type, config -> {});
+    }
+
+    /**
+     * Creates a randomizer to generate graphs of objects, with the given type as the root, with the shape of the graph
+     * and the field randomizers configured by the provided configuration. See {@link #graphOf(Class)} for details.
+     *
+     * @param type the type of the root object
+     * @param config the graph configuration
+     * @return the randomizer
+     * @param <O> the type of the randomizer
+     * @throws IllegalArgumentException if the type is not a record and has no no-argument constructor
+     */
+    public static <O> Randomizer<O> graphOf(final Class<O> type, final Consumer<GraphRandomizers> config) {
+        val graphRandomizers = new GraphRandomizer.Config();
+        config.accept(graphRandomizers);
+        return new GraphRandomizer<>(type, graphRandomizers);
+    }
+
     @RequiredArgsConstructor(access = PRIVATE)
     private static class ObjectRandomizer<O> implements Randomizer<O> {
         private final Supplier<O> instanceProvider;
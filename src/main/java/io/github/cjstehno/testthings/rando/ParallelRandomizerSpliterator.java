@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.val;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static io.github.cjstehno.testthings.rando.SharedRandom.bind;
+import static io.github.cjstehno.testthings.rando.SharedRandom.deriveSeed;
+
+/**
+ * A spliterator which generates the values of a {@link Randomizer} in fixed-size chunks, where each chunk is generated
+ * with its own <code>SharedRandom</code> seeded by a value derived from the root seed and the chunk index. The spliterator
+ * only splits on chunk boundaries, so the generated values depend only on the root seed (and algorithm), not on how the
+ * work is divided between threads.
+ *
+ * While a chunk is being generated, its generator is bound as the <code>SharedRandom</code> of the generating thread,
+ * and it remains bound while the value is passed downstream.
+ *
+ * @param <T> the type of generated value
+ */
+class ParallelRandomizerSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * The number of values generated by each derived generator.
+     */
+    static final int CHUNK_SIZE = 1024;
+
+    private final Randomizer<T> randomizer;
+    private final long rootSeed;
+    private final String algorithm;
+    private final long fence;
+    private long index;
+    private SharedRandom generator;
+
+    ParallelRandomizerSpliterator(final Randomizer<T> randomizer, final long count, final long rootSeed, final String algorithm) {
+        this(randomizer, 0, count, rootSeed, algorithm, null);
+    }
+
+    private ParallelRandomizerSpliterator(final Randomizer<T> randomizer, final long index, final long fence, final long rootSeed, final String algorithm, final SharedRandom generator) {
+        this.randomizer = randomizer;
+        this.index = index;
+        this.fence = fence;
+        this.rootSeed = rootSeed;
+        this.algorithm = algorithm;
+        this.generator = generator;
+    }
+
+    @Override public boolean tryAdvance(final Consumer<? super T> action) {
+        if (index >= fence) {
+            return false;
+        }
+
+        val previous = bind(chunkGenerator());
+        try {
+            index++;
+            action.accept(randomizer.one());
+        } finally {
+            bind(previous);
+        }
+        return true;
+    }
+
+    @Override public void forEachRemaining(final Consumer<? super T> action) {
+        while (index < fence) {
+            val chunkEnd = Math.min(fence, (index / CHUNK_SIZE + 1) * CHUNK_SIZE);
+
+            val previous = bind(chunkGenerator());
+            try {
+                for (; index < chunkEnd; index++) {
+                    action.accept(randomizer.one());
+                }
+            } finally {
+                bind(previous);
+            }
+        }
+    }
+
+    @Override public Spliterator<T> trySplit() {
+        // only split on a chunk boundary after the current chunk
+        val firstChunk = index / CHUNK_SIZE + 1;
+        val lastChunk = (fence - 1) / CHUNK_SIZE;
+        if (firstChunk > lastChunk) {
+            return null;
+        }
+
+        val mid = ((firstChunk + lastChunk + 1) >>> 1) * CHUNK_SIZE;
+        val prefix = new ParallelRandomizerSpliterator<>(randomizer, index, mid, rootSeed, algorithm, generator);
+
+        index = mid;
+        generator = null;
+
+        return prefix;
+    }
+
+    @Override public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+
+    // the chunk generator is created when the first value of the chunk is generated
+    private SharedRandom chunkGenerator() {
+        if (generator == null || index % CHUNK_SIZE == 0) {
+            generator = SharedRandom.generator(deriveSeed(rootSeed, index / CHUNK_SIZE), algorithm);
+        }
+        return generator;
+    }
+}
@@ -31,14 +31,19 @@ import static io.github.cjstehno.testthings.rando.NumberRandomizers.anIntBetween
 @NoArgsConstructor(staticName = "randomPerson")
 public class PersonRandomizer implements Randomizer<Person> {
 
+    private static final Randomizer<BirthGender> GENDERS = oneOf(BirthGender.class);
+    private static final Randomizer<MaleName> MALE_NAMES = oneOf(MaleName.class);
+    private static final Randomizer<FemaleName> FEMALE_NAMES = oneOf(FemaleName.class);
+    private static final IntRandomizer AGES = anIntBetween(1, 100);
+
     @Override public Person one() {
-        val birthGender = oneOf(BirthGender.class).one();
+        val birthGender = GENDERS.one();
 
-        val nameRando = switch (birthGender) {
-            case MALE -> oneOf(MaleName.class);
-            case FEMALE -> oneOf(FemaleName.class);
+        val name = switch (birthGender) {
+            case MALE -> MALE_NAMES.one().toString();
+            case FEMALE -> FEMALE_NAMES.one().toString();
         };
 
-        return new Person(nameRando.one().toString(), birthGender, anIntBetween(1, 100).one());
+        return new Person(name, birthGender, AGES.oneInt());
     }
 }
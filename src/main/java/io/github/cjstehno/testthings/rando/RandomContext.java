@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGeneratorFactory;
+
+import static io.github.cjstehno.testthings.rando.SharedRandom.bind;
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static io.github.cjstehno.testthings.rando.SharedRandom.deriveSeed;
+import static io.github.cjstehno.testthings.rando.SharedRandom.shared;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A context which carries a root seed to forked tasks. Each task wrapped by the context (or submitted to an executor
+ * wrapped by the context) is run with its own generator bound to its thread, seeded with a seed derived from the root
+ * seed and the order in which the tasks were forked. The values generated by each task are then repeatable, no matter
+ * which thread runs the task or how the tasks are scheduled - and the generator of the thread is restored once the task
+ * is complete. Binding the task generator does not create a generator for the thread itself, so each task creates
+ * only its own generator.
+ *
+ * <pre>
+ * val executor = RandomContext.fork().executor(Executors.newFixedThreadPool(8));
+ * executor.submit(() -&gt; listOf(anIntBetween(1, 10), alphabetic(constant(8))).one());
+ * </pre>
+ */
+public final class RandomContext {
+
+    /**
+     * The root seed of the context.
+     */
+    @Getter private final long rootSeed;
+
+    private final String algorithm;
+    private final RandomGeneratorFactory<?> factory;
+    private final AtomicLong forks = new AtomicLong();
+
+    // the factory is resolved once, so that each task only creates its generator
+    private RandomContext(final long rootSeed, final String algorithm) {
+        this.rootSeed = rootSeed;
+        this.algorithm = algorithm;
+        this.factory = RandomGeneratorFactory.of(algorithm);
+    }
+
+    /**
+     * Creates a context with a root seed drawn from the generator of the current thread (using the same algorithm), so
+     * that the context is pinned along with the other random values of the thread.
+     *
+     * @return the context
+     */
+    public static RandomContext fork() {
+        return new RandomContext(current().nextLong(1, Long.MAX_VALUE), shared().getAlgorithm());
+    }
+
+    /**
+     * Creates a context with the given root seed (using the algorithm of the generator of the current thread).
+     *
+     * @param rootSeed the root seed
+     * @return the context
+     */
+    public static RandomContext of(final long rootSeed) {
+        return new RandomContext(rootSeed, shared().getAlgorithm());
+    }
+
+    /**
+     * Wraps the task so that it runs with its own generator, seeded by the next derived seed of the context.
+     *
+     * @param task the task
+     * @return the wrapped task
+     */
+    public Runnable wrap(final Runnable task) {
+        val seed = nextSeed();
+        return () -> {
+            val previous = bind(SharedRandom.generator(seed, algorithm, factory));
+            try {
+                task.run();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps the task so that it runs with its own generator, seeded by the next derived seed of the context.
+     *
+     * @param task the task
+     * @param <T>  the type of the task result
+     * @return the wrapped task
+     */
+    public <T> Callable<T> wrap(final Callable<T> task) {
+        val seed = nextSeed();
+        return () -> {
+            val previous = bind(SharedRandom.generator(seed, algorithm, factory));
+            try {
+                return task.call();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps the executor so that each task submitted to it is wrapped by this context. The seed of each task is derived
+     * when the task is submitted, so the tasks should be submitted in a repeatable order.
+     *
+     * @param executor the executor to be wrapped
+     * @return the wrapped executor
+     */
+    public ExecutorService executor(final ExecutorService executor) {
+        return new ContextExecutorService(executor);
+    }
+
+    private long nextSeed() {
+        return deriveSeed(rootSeed, forks.getAndIncrement());
+    }
+
+    /**
+     * An executor service which wraps each task (all submission methods run through <code>execute</code>).
+     */
+    @RequiredArgsConstructor(access = PRIVATE)
+    private final class ContextExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+
+        @Override public void execute(final Runnable command) {
+            delegate.execute(wrap(command));
+        }
+
+        @Override public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.Getter;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.random.RandomGenerator;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A tape of the raw values drawn from the {@link SharedRandom} of the current thread. All of the provided randomizers
+ * derive their values from the raw <code>nextLong()</code> stream, so a recorded tape may be replayed to reproduce the
+ * same generated values without depending on the seed or algorithm of the generator. The replayed values are served in
+ * the order in which they were recorded, so - just as with a seed - the code must draw its values in the same order for
+ * the same values to be generated; use a {@link ValueTape} to record the generated values themselves.
+ *
+ * A tape is recorded with <code>record(Path)</code>, which passes the generated values through while writing them to
+ * the tape file (in buffered blocks). A tape is replayed with <code>replay(Path)</code>, which memory-maps the tape
+ * file and serves its values in place of the generator. Closing the tape restores the previous behavior - tapes are
+ * bound to the thread which opened them and should be closed on that thread.
+ *
+ * <pre>
+ * try (val tape = RandomTape.record(path)) {
+ *     // generate values...
+ * }
+ *
+ * try (val tape = RandomTape.replay(path)) {
+ *     // generate the same values...
+ * }
+ * </pre>
+ *
+ * <strong>NOTE:</strong> Only the generator bound to the current thread when the tape is opened is recorded or
+ * replayed - values drawn from other generators (e.g. within a <code>SharedRandom.scope(long)</code>, a
+ * {@link RandomContext}, or the <code>parallelStream</code> methods) bypass the tape.
+ */
+public abstract class RandomTape implements AutoCloseable {
+
+    private static final int MAGIC = 0x54544150;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SharedRandom random;
+    private final SharedRandom.Source previous;
+
+    /**
+     * The path of the tape file.
+     */
+    @Getter private final Path path;
+
+    /**
+     * The seed of the generator which recorded the tape.
+     */
+    @Getter private final long seed;
+
+    /**
+     * The number of values recorded or replayed so far.
+     */
+    @Getter protected long count;
+
+    private RandomTape(final Path path, final long seed) {
+        this.path = path;
+        this.seed = seed;
+        this.random = SharedRandom.shared();
+        this.previous = random.source(this::next);
+    }
+
+    /**
+     * Starts recording the values drawn from the generator of the current thread to the given tape file. Any existing
+     * file will be overwritten.
+     *
+     * @param path the path of the tape file
+     * @return the recording tape, which must be closed to complete the recording
+     * @throws IOException if there is a problem opening the file
+     */
+    public static RandomTape record(final Path path) throws IOException {
+        return new Recorder(path, FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE));
+    }
+
+    /**
+     * Starts replaying the values of the given tape file in place of the generator of the current thread. Drawing more
+     * values than were recorded will throw an {@link IllegalStateException}.
+     *
+     * @param path the path of the tape file
+     * @return the replaying tape, which must be closed to restore the generator
+     * @throws IOException              if there is a problem reading the file
+     * @throws IllegalArgumentException if the file is not a valid tape file
+     */
+    public static RandomTape replay(final Path path) throws IOException {
+        try (val channel = FileChannel.open(path, READ)) {
+            if (channel.size() > Integer.MAX_VALUE || channel.size() < HEADER_SIZE) {
+                throw new IllegalArgumentException("The file (" + path + ") is not a supported random tape.");
+            }
+
+            val tape = channel.map(READ_ONLY, 0, channel.size());
+            if (tape.getInt() != MAGIC || tape.getInt() != VERSION) {
+                throw new IllegalArgumentException("The file (" + path + ") is not a supported random tape.");
+            }
+
+            return new Player(path, tape.getLong(), tape);
+        }
+    }
+
+    /**
+     * Provides the next raw value of the tape.
+     *
+     * @param generator the underlying generator
+     * @return the next value
+     */
+    abstract long next(RandomGenerator generator);
+
+    /**
+     * Completes the recording or replay, and restores the previous behavior of the generator.
+     *
+     * @throws IOException if there is a problem writing the tape
+     */
+    @Override public void close() throws IOException {
+        random.source(previous);
+    }
+
+    private static final class Recorder extends RandomTape {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Recorder(final Path path, final FileChannel channel) {
+            super(path, SharedRandom.shared().getSeed());
+            this.channel = channel;
+
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(getSeed());
+        }
+
+        @Override long next(final RandomGenerator generator) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+
+            val value = generator.nextLong();
+            buffer.putLong(value);
+            count++;
+            return value;
+        }
+
+        @Override public void close() throws IOException {
+            try {
+                flush();
+            } catch (final UncheckedIOException ex) {
+                throw ex.getCause();
+            } finally {
+                try {
+                    channel.close();
+                } finally {
+                    super.close();
+                }
+            }
+        }
+
+        private void flush() {
+            try {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private static final class Player extends RandomTape {
+
+        private final MappedByteBuffer tape;
+
+        private Player(final Path path, final long seed, final MappedByteBuffer tape) {
+            super(path, seed);
+            this.tape = tape;
+        }
+
+        @Override long next(final RandomGenerator generator) {
+            if (tape.remaining() < Long.BYTES) {
+                throw new IllegalStateException("The random tape (" + getPath() + ") is exhausted after " + count + " values.");
+            }
+
+            count++;
+            return tape.getLong();
+        }
+    }
+}
@@ -18,9 +18,16 @@ package io.github.cjstehno.testthings.rando;
 import lombok.val;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
 import static java.util.Collections.unmodifiableList;
 
 /**
@@ -44,22 +51,200 @@ public interface Randomizer<T> {
      * @return an unmodifiable list of randomly generated items
      */
     default List<T> many(int count) {
-        val values = new ArrayList<T>(10);
+        return unmodifiableList(addTo(new ArrayList<>(Math.max(count, 0)), count));
+    }
+
+    /**
+     * Used to fill the given array with randomly generated instances of the target class. The array may be reused
+     * across calls, so that no intermediate collections are created.
+     *
+     * @param target the array to be filled
+     * @return the filled array
+     */
+    default T[] fill(final T[] target) {
+        return fill(target, 0, target.length);
+    }
+
+    /**
+     * Used to fill a range of the given array with randomly generated instances of the target class.
+     *
+     * @param target the array to be filled
+     * @param from   the index of the first element to be filled (inclusive)
+     * @param to     the index of the last element to be filled (exclusive)
+     * @return the filled array
+     */
+    default T[] fill(final T[] target, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, target.length);
+
+        for (int i = from; i < to; i++) {
+            target[i] = one();
+        }
+
+        return target;
+    }
 
+    /**
+     * Used to add <code>count</code> randomly generated instances of the target class to the given collection.
+     *
+     * @param target the collection to which the items are added
+     * @param count  the number of items to be added
+     * @param <C>    the type of collection
+     * @return the target collection
+     */
+    default <C extends Collection<? super T>> C addTo(final C target, final int count) {
         for (int i = 0; i < count; i++) {
-            values.add(one());
+            target.add(one());
         }
 
-        return unmodifiableList(values);
+        return target;
     }
 
     /**
-     * Used to generate a stream of `count` randomly generated instances of the target class.
+     * Used to generate a stream of `count` randomly generated instances of the target class. The values are generated
+     * lazily, as they are consumed by the stream, so they are never all held in memory at once.
      *
      * @param count the number of items in the stream
      * @return a Stream of randomly generated items
      */
     default Stream<T> stream(int count) {
-        return many(count).stream();
+        return StreamSupport.stream(new RandomizerSpliterator<>(this, Math.max(count, 0)), false);
+    }
+
+    /**
+     * Used to generate an unbounded stream of randomly generated instances of the target class. The values are
+     * generated lazily, as they are consumed by the stream - a short-circuiting operation (e.g. <code>limit</code> or
+     * <code>findFirst</code>) should be used to terminate the stream.
+     *
+     * @return an unbounded Stream of randomly generated items
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(new RandomizerSpliterator<>(this, -1), false);
+    }
+
+    /**
+     * Used to generate a parallel stream of `count` randomly generated instances of the target class. The root seed is
+     * drawn from the <code>SharedRandom</code> of the calling thread, so the stream is repeatable when that generator is
+     * seeded with a known value.
+     *
+     * @param count the number of items in the stream
+     * @return a parallel Stream of randomly generated items
+     * @see #parallelStream(long, long)
+     */
+    default Stream<T> parallelStream(final long count) {
+        return parallelStream(count, SharedRandom.current().nextLong());
+    }
+
+    /**
+     * Used to generate a parallel stream of `count` randomly generated instances of the target class.
+     *
+     * The values are generated in fixed-size chunks, each with its own generator, seeded by a value derived from the
+     * root seed and the index of the chunk. The chunk generator is used as the <code>SharedRandom</code> of the thread
+     * generating the chunk, so the generated values, and their order, are the same for a given root seed no matter how
+     * many threads are used to generate them. The generators use the algorithm of the calling thread's
+     * <code>SharedRandom</code>.
+     *
+     * @param count    the number of items in the stream
+     * @param rootSeed the root seed, used to derive the seed of each chunk
+     * @return a parallel Stream of randomly generated items
+     */
+    default Stream<T> parallelStream(final long count, final long rootSeed) {
+        val algorithm = ((SharedRandom) SharedRandom.current()).getAlgorithm();
+        return StreamSupport.stream(new ParallelRandomizerSpliterator<>(this, Math.max(count, 0), rootSeed, algorithm), true);
+    }
+
+    /**
+     * Creates a randomizer which transforms the values generated by this randomizer using the given function. Chained
+     * <code>map</code> calls are fused into a single randomizer, with the functions composed.
+     *
+     * <strong>NOTE:</strong> The combinators avoid a layer of randomizer per step, but the functions themselves are still
+     * invoked through their interfaces - a call site shared by many different functions (e.g. in mixed pipelines) is not
+     * inlined by the JIT, so these are a convenience rather than a replacement for a hand-written randomizer in very hot
+     * code.
+     *
+     * @param mapper the function applied to each generated value
+     * @param <R>    the type of the transformed value
+     * @return the randomizer
+     */
+    default <R> Randomizer<R> map(final Function<? super T, ? extends R> mapper) {
+        return new MappedRandomizer<T, R>(this, mapper);
+    }
+
+    /**
+     * Creates a randomizer which only generates the values of this randomizer which match the given predicate. Values
+     * which do not match are rejected and generated again, up to a default budget of 100 consecutive attempts per
+     * value.
+     *
+     * @param predicate the predicate which the generated values must match
+     * @return the randomizer
+     * @see #filter(Predicate, int)
+     */
+    default FilteredRandomizer<T> filter(final Predicate<? super T> predicate) {
+        return filter(predicate, FilteredRandomizer.DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Creates a randomizer which only generates the values of this randomizer which match the given predicate. Values
+     * which do not match are rejected and generated again - if no matching value is generated after the specified
+     * number of consecutive attempts, an {@link IllegalStateException} is thrown, rather than looping forever. The
+     * returned randomizer keeps track of its acceptance rate, which is useful for spotting wasteful filters.
+     *
+     * @param predicate   the predicate which the generated values must match
+     * @param maxAttempts the maximum number of attempts to generate a matching value
+     * @return the randomizer
+     */
+    default FilteredRandomizer<T> filter(final Predicate<? super T> predicate, final int maxAttempts) {
+        return new FilteredRandomizer<>(this, predicate, maxAttempts);
+    }
+
+    /**
+     * Creates a randomizer which combines the values generated by this randomizer with the values generated by another
+     * randomizer, using the given function.
+     *
+     * @param other    the other randomizer
+     * @param combiner the function used to combine the generated values
+     * @param <U>      the type of the other generated value
+     * @param <R>      the type of the combined value
+     * @return the randomizer
+     */
+    default <U, R> Randomizer<R> zip(final Randomizer<U> other, final BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return () -> combiner.apply(one(), other.one());
+    }
+
+    /**
+     * Creates a randomizer which uses each value generated by this randomizer to select the randomizer of the value
+     * which is actually generated (e.g. a randomly selected type, and then a randomizer for that type).
+     *
+     * @param mapper the function providing the randomizer for each generated value
+     * @param <R>    the type of the generated value
+     * @return the randomizer
+     */
+    default <R> Randomizer<R> flatMap(final Function<? super T, ? extends Randomizer<? extends R>> mapper) {
+        return () -> mapper.apply(one()).one();
+    }
+
+    /**
+     * Creates a randomizer which generates a value from this randomizer with the given probability, and a
+     * <code>null</code> value otherwise.
+     *
+     * @param probability the probability of generating a value, between 0 and 1 (inclusive)
+     * @return the randomizer
+     */
+    default Randomizer<T> withProbability(final double probability) {
+        return withProbability(probability, () -> null);
+    }
+
+    /**
+     * Creates a randomizer which generates a value from this randomizer with the given probability, and a value from
+     * the other randomizer otherwise.
+     *
+     * @param probability the probability of generating a value from this randomizer, between 0 and 1 (inclusive)
+     * @param otherwise   the randomizer used otherwise
+     * @return the randomizer
+     */
+    default Randomizer<T> withProbability(final double probability, final Randomizer<? extends T> otherwise) {
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("The probability must be between 0 and 1.");
+        }
+        return () -> current().nextDouble() < probability ? one() : otherwise.one();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator which generates its values on-demand from a {@link Randomizer}, so that the values of a stream are
+ * never materialized. The spliterator may be bounded by a count, or unbounded (when the count is negative).
+ *
+ * @param <T> the type of generated value
+ */
+class RandomizerSpliterator<T> implements Spliterator<T> {
+
+    private final Randomizer<T> randomizer;
+    private final boolean bounded;
+    private long remaining;
+
+    RandomizerSpliterator(final Randomizer<T> randomizer, final long count) {
+        this.randomizer = randomizer;
+        this.bounded = count >= 0;
+        this.remaining = bounded ? count : Long.MAX_VALUE;
+    }
+
+    @Override public boolean tryAdvance(final Consumer<? super T> action) {
+        if (remaining <= 0) {
+            return false;
+        }
+
+        if (bounded) {
+            remaining--;
+        }
+
+        action.accept(randomizer.one());
+        return true;
+    }
+
+    @Override public void forEachRemaining(final Consumer<? super T> action) {
+        if (!bounded) {
+            Spliterator.super.forEachRemaining(action);
+            return;
+        }
+
+        for (; remaining > 0; remaining--) {
+            action.accept(randomizer.one());
+        }
+    }
+
+    @Override public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override public long estimateSize() {
+        return remaining;
+    }
+
+    @Override public int characteristics() {
+        return bounded ? ORDERED | IMMUTABLE | SIZED : ORDERED | IMMUTABLE;
+    }
+}
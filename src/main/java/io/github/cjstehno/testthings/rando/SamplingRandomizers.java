@@ -0,0 +1,249 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.NoArgsConstructor;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static java.lang.Math.exp;
+import static java.lang.Math.floor;
+import static java.lang.Math.log;
+import static java.util.Comparator.comparingDouble;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A collection of randomizers (and utilities) for randomly sampling items from sources which are too large to be held in
+ * memory, such as large files or streams. The samples are selected in a single pass over the source using reservoir
+ * sampling, holding only the sampled items in memory.
+ *
+ * Unweighted samples use "Algorithm L" (Li, 1994), which skips over the items which will not be sampled rather than
+ * drawing a random value for each item. Weighted samples use the "A-ExpJ" algorithm (Efraimidis and Spirakis, 2006),
+ * which similarly jumps over items based on their accumulated weight.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class SamplingRandomizers {
+
+    /**
+     * Builds a randomizer which generates a random sample of (up to) k items from the stream provided by the source. Each
+     * generated sample takes a new pass over a new stream from the source, which is closed once sampled.
+     *
+     * @param k      the number of items in the sample
+     * @param source the source of the items
+     * @param <T>    the type of item
+     * @return the randomizer
+     */
+    public static <T> Randomizer<List<T>> sampleOf(final int k, final Supplier<? extends Stream<? extends T>> source) {
+        return () -> {
+            try (val stream = source.get()) {
+                return sample(k, stream);
+            }
+        };
+    }
+
+    /**
+     * Builds a randomizer which generates a random sample of (up to) k lines from the file (UTF-8). Each generated sample
+     * reads the file again.
+     *
+     * @param k    the number of lines in the sample
+     * @param file the file
+     * @return the randomizer
+     */
+    public static Randomizer<List<String>> linesSampleOf(final int k, final Path file) {
+        return sampleOf(k, () -> {
+            try {
+                return Files.lines(file);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    /**
+     * Builds a randomizer which generates a weighted random sample of (up to) k items from the stream provided by the
+     * source, where the probability of an item being sampled is proportional to its weight.
+     *
+     * @param k      the number of items in the sample
+     * @param source the source of the items
+     * @param weight the function providing the weight of each item (items with zero weight are never sampled)
+     * @param <T>    the type of item
+     * @return the randomizer
+     */
+    public static <T> Randomizer<List<T>> weightedSampleOf(
+        final int k, final Supplier<? extends Stream<? extends T>> source, final ToDoubleFunction<? super T> weight
+    ) {
+        return () -> {
+            try (val stream = source.get()) {
+                return weightedSample(k, stream.iterator(), weight);
+            }
+        };
+    }
+
+    /**
+     * Selects a random sample of (up to) k items from the stream, in a single pass.
+     *
+     * @param k     the number of items in the sample
+     * @param items the items
+     * @param <T>   the type of item
+     * @return the sampled items (fewer than k if there are fewer items)
+     */
+    public static <T> List<T> sample(final int k, final Stream<? extends T> items) {
+        return sample(k, items.iterator());
+    }
+
+    /**
+     * Selects a random sample of (up to) k items from the iterator, in a single pass.
+     *
+     * @param k     the number of items in the sample
+     * @param items the items
+     * @param <T>   the type of item
+     * @return the sampled items (fewer than k if there are fewer items)
+     */
+    public static <T> List<T> sample(final int k, final Iterator<? extends T> items) {
+        checkSize(k);
+
+        val reservoir = new ArrayList<T>(k);
+        while (reservoir.size() < k && items.hasNext()) {
+            reservoir.add(items.next());
+        }
+        if (k == 0 || reservoir.size() < k) {
+            return reservoir;
+        }
+
+        val random = current();
+        double w = exp(log(uniform(random)) / k);
+
+        while (true) {
+            // skip the items which will not be sampled
+            long skip = (long) floor(log(uniform(random)) / log(1 - w));
+            while (skip > 0 && items.hasNext()) {
+                items.next();
+                skip--;
+            }
+            if (!items.hasNext()) {
+                return reservoir;
+            }
+
+            reservoir.set(random.nextInt(k), items.next());
+            w *= exp(log(uniform(random)) / k);
+        }
+    }
+
+    /**
+     * Selects a weighted random sample of (up to) k items from the iterator, in a single pass. The probability of an item
+     * being sampled is proportional to its weight.
+     *
+     * @param k      the number of items in the sample
+     * @param items  the items
+     * @param weight the function providing the weight of each item (items with zero weight are never sampled)
+     * @param <T>    the type of item
+     * @return the sampled items (fewer than k if there are fewer items with a positive weight)
+     * @throws IllegalArgumentException if an item has a negative weight
+     */
+    public static <T> List<T> weightedSample(final int k, final Iterator<? extends T> items, final ToDoubleFunction<? super T> weight) {
+        checkSize(k);
+
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+
+        val random = current();
+
+        // the reservoir is ordered by the (log of the) item keys, smallest first
+        val reservoir = new PriorityQueue<Keyed<T>>(k, comparingDouble(Keyed::key));
+
+        double jump = 0;
+        while (items.hasNext()) {
+            val item = items.next();
+            val w = checkWeight(weight.applyAsDouble(item));
+            if (w == 0) {
+                continue;
+            }
+
+            if (reservoir.size() < k) {
+                reservoir.add(new Keyed<>(log(uniform(random)) / w, item));
+                if (reservoir.size() == k) {
+                    jump = log(uniform(random)) / reservoir.peek().key();
+                }
+                continue;
+            }
+
+            jump -= w;
+            if (jump <= 0) {
+                // the item replaces the smallest key, with a key in (t^w, 1) where t is the smallest key
+                val tw = exp(reservoir.peek().key() * w);
+                val r = tw + (1 - tw) * random.nextDouble();
+                reservoir.poll();
+                reservoir.add(new Keyed<>(log(r) / w, item));
+
+                jump = log(uniform(random)) / reservoir.peek().key();
+            }
+        }
+
+        val sample = new ArrayList<T>(reservoir.size());
+        for (val keyed : reservoir) {
+            sample.add(keyed.item());
+        }
+        return sample;
+    }
+
+    /**
+     * Selects a weighted random sample of (up to) k items from the stream, in a single pass.
+     *
+     * @param k      the number of items in the sample
+     * @param items  the items
+     * @param weight the function providing the weight of each item (items with zero weight are never sampled)
+     * @param <T>    the type of item
+     * @return the sampled items (fewer than k if there are fewer items with a positive weight)
+     */
+    public static <T> List<T> weightedSample(final int k, final Stream<? extends T> items, final ToDoubleFunction<? super T> weight) {
+        return weightedSample(k, items.iterator(), weight);
+    }
+
+    // a uniform value in (0, 1]
+    private static double uniform(final RandomGenerator random) {
+        return 1 - random.nextDouble();
+    }
+
+    private static void checkSize(final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("The sample size must not be negative.");
+        }
+    }
+
+    private static double checkWeight(final double weight) {
+        if (weight < 0 || Double.isNaN(weight)) {
+            throw new IllegalArgumentException("The weight (" + weight + ") must not be negative.");
+        }
+        return weight;
+    }
+
+    private record Keyed<T>(double key, T item) {
+    }
+}
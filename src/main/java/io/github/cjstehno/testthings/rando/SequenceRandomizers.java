@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.NoArgsConstructor;
+import lombok.val;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A collection of randomizers for generating ordered sequences of values, such as the ids and timestamps of an event
+ * stream, or the values of a time series. Unlike the other randomizers, each value depends on the values before it.
+ *
+ * The randomizers are primitive-specialized, so a sequence may be generated lazily as a primitive stream (e.g.
+ * <code>longs(count)</code>), or in batches, into a reusable array (e.g. <code>fillLongs(long[])</code>). Each randomizer
+ * instance maintains its own sequence; it may be shared across threads, but the order in which the threads receive the
+ * values is not deterministic.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class SequenceRandomizers {
+
+    /**
+     * Builds a randomizer which will generate a strictly increasing sequence of values (e.g. ids). The first value is the
+     * start value, and each following value is larger than the one before it by a random stride between the min
+     * (inclusive) and max (exclusive) strides.
+     *
+     * @param start     the first value of the sequence
+     * @param minStride the min stride between values (inclusive, must be positive)
+     * @param maxStride the max stride between values (exclusive)
+     * @return the randomizer
+     */
+    public static LongRandomizer increasing(final long start, final long minStride, final long maxStride) {
+        if (minStride < 1) {
+            throw new IllegalArgumentException("The min stride must be positive.");
+        }
+        if (minStride >= maxStride) {
+            throw new IllegalArgumentException("The min value must be less than the max value.");
+        }
+        return increasing(start, () -> current().nextLong(minStride, maxStride));
+    }
+
+    /**
+     * Builds a randomizer which will generate a strictly increasing sequence of values, with the strides between values
+     * generated by the given randomizer (e.g. a distribution from the {@link DistributionRandomizers}). If the stride
+     * randomizer generates a value less than one, an {@link IllegalStateException} is thrown.
+     *
+     * @param start   the first value of the sequence
+     * @param strides the randomizer used to generate the strides between values
+     * @return the randomizer
+     */
+    public static LongRandomizer increasing(final long start, final LongRandomizer strides) {
+        val next = new AtomicLong(start);
+        return () -> {
+            val stride = strides.oneLong();
+            if (stride < 1) {
+                throw new IllegalStateException("The stride must be positive, but was %d.".formatted(stride));
+            }
+            return next.getAndAdd(stride);
+        };
+    }
+
+    /**
+     * Builds a randomizer which will generate the timestamps of events arriving as a Poisson process - the intervals
+     * between the events are exponentially distributed, so the events arrive at a constant average rate, but with
+     * realistic bursts and gaps. The first value is the start timestamp, and the sequence never decreases.
+     *
+     * The intervals are accumulated as fractional values, so that short mean intervals do not drift due to rounding.
+     *
+     * @param start        the first timestamp of the sequence (e.g. epoch milliseconds)
+     * @param meanInterval the mean interval between events, in the units of the timestamps (must be greater than zero)
+     * @return the randomizer
+     */
+    public static LongRandomizer poissonArrivals(final long start, final double meanInterval) {
+        if (!(meanInterval > 0) || !Double.isFinite(meanInterval)) {
+            throw new IllegalArgumentException("The mean interval must be finite and greater than zero.");
+        }
+
+        val elapsed = new AtomicLong(doubleToLongBits(0d));
+        return () -> {
+            val interval = current().nextExponential() * meanInterval;
+            return start + (long) longBitsToDouble(elapsed.getAndUpdate(bits -> doubleToLongBits(longBitsToDouble(bits) + interval)));
+        };
+    }
+
+    /**
+     * Builds a randomizer which will generate a random walk - the first value is the start value, and each following
+     * value differs from the one before it by a normally distributed step.
+     *
+     * @param start  the first value of the sequence
+     * @param stddev the standard deviation of the steps (must not be negative)
+     * @return the randomizer
+     */
+    public static DoubleRandomizer randomWalk(final double start, final double stddev) {
+        if (stddev < 0) {
+            throw new IllegalArgumentException("The standard deviation must not be negative.");
+        }
+
+        val value = new AtomicLong(doubleToLongBits(start));
+        return () -> {
+            val step = current().nextGaussian() * stddev;
+            return longBitsToDouble(value.getAndUpdate(bits -> doubleToLongBits(longBitsToDouble(bits) + step)));
+        };
+    }
+
+    /**
+     * Builds a randomizer which will generate a periodic signal with noise (e.g. daily load on a service), where the
+     * value at step <code>i</code> is <code>mean + amplitude * sin(2 * PI * i / period)</code> plus normally distributed
+     * noise.
+     *
+     * @param mean      the mean value of the signal
+     * @param amplitude the amplitude of the signal
+     * @param period    the number of steps in each period of the signal (must be greater than zero)
+     * @param noise     the standard deviation of the noise (must not be negative)
+     * @return the randomizer
+     */
+    public static DoubleRandomizer periodic(final double mean, final double amplitude, final double period, final double noise) {
+        if (!(period > 0)) {
+            throw new IllegalArgumentException("The period must be greater than zero.");
+        }
+        if (noise < 0) {
+            throw new IllegalArgumentException("The noise must not be negative.");
+        }
+
+        val frequency = 2 * Math.PI / period;
+        val step = new AtomicLong();
+        return () -> mean + amplitude * Math.sin(frequency * step.getAndIncrement()) + current().nextGaussian() * noise;
+    }
+}
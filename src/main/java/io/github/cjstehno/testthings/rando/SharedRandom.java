@@ -16,15 +16,19 @@
 package io.github.cjstehno.testthings.rando;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
-import java.util.Random;
+import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 import static java.lang.Long.parseLong;
 import static java.lang.System.getProperty;
 import static java.lang.System.nanoTime;
+import static lombok.AccessLevel.PRIVATE;
 
 /**
  * A thread-safe "random" number generated similar to the {@link java.util.concurrent.ThreadLocalRandom}, but with the
@@ -36,6 +40,11 @@ import static java.lang.System.nanoTime;
  * The seed may be injected programmatically, or a system property may be set ("test-tings.rando.seed") which will
  * specify the seed for the whole JVM.
  *
+ * The underlying generator algorithm may be any algorithm supported by {@link RandomGeneratorFactory} (e.g.
+ * "L64X128MixRandom" or "Xoshiro256PlusPlus"). It defaults to "Random" (i.e. {@link java.util.Random}), but may be
+ * specified programmatically, or by setting the "test-things.rando.algorithm" system property. A given seed will produce
+ * the same values, in the same order, for a given algorithm.
+ *
  * <strong>NOTE:</strong> Setting the seed to a known value should ONLY be used for development and testing purposes.
  */
 @Slf4j
@@ -46,16 +55,53 @@ public class SharedRandom implements RandomGenerator {
      */
     public static final String SEED_PROPERTY = "test-things.rando.seed";
 
-    private static ThreadLocal<SharedRandom> SHARED = ThreadLocal.withInitial(() -> {
-        log.debug("Creating a new random.");
-        return new SharedRandom(null);
-    });
+    /**
+     * The System property which may be used to specify a custom generator algorithm (e.g "test-things.rando.algorithm").
+     */
+    public static final String ALGORITHM_PROPERTY = "test-things.rando.algorithm";
+
+    /**
+     * The default generator algorithm ("Random"), which is backed by {@link java.util.Random}.
+     */
+    public static final String DEFAULT_ALGORITHM = "Random";
+
+    // the generator of a thread is created lazily (see shared()), unless it is inherited from its parent thread
+    private static final ThreadLocal<SharedRandom> SHARED = new InheritableThreadLocal<>() {
+        @Override protected SharedRandom childValue(final SharedRandom parent) {
+            if (parent == null || !parent.inheritable) {
+                return null;
+            }
+
+            // the child seed depends on the parent seed and the order in which the threads are started
+            val child = new SharedRandom(deriveSeed(parent.seed, parent.children++), parent.algorithm);
+            child.inheritable = true;
+            log.debug("Creating a new random ({}) inherited from {}.", child.seed, parent.seed);
+            return child;
+        }
+    };
 
     @Getter private long seed;
-    private Random random;
+    @Getter private String algorithm;
+    private RandomGenerator random;
+    private Source source;
+    private long children;
+
+    /**
+     * Whether threads started from the thread of this generator inherit a derived generator. When inheritable, each
+     * thread started from this thread gets its own (inheritable) generator, with a seed derived from the seed of this
+     * generator and the number of threads started before it - otherwise, each thread creates a new generator with the
+     * configured (or a time-based) seed when it is first used. The derived seeds are reset when the generator is reseeded.
+     */
+    @Getter @Setter private boolean inheritable;
+
+    private SharedRandom(final Long seed, final String algorithm) {
+        reseed(resolveSeed(seed), algorithm);
+    }
 
-    private SharedRandom(final Long seed) {
-        reseed(resolveSeed(seed));
+    private SharedRandom(final long seed, final String algorithm, final RandomGenerator random) {
+        this.seed = seed;
+        this.algorithm = algorithm;
+        this.random = random;
     }
 
     /**
@@ -64,22 +110,38 @@ public class SharedRandom implements RandomGenerator {
      * @return the random generator instance
      */
     public static RandomGenerator current() {
-        return SHARED.get();
+        return shared();
     }
 
     @Override public long nextLong() {
-        return random.nextLong();
+        return source != null ? source.nextLong(random) : random.nextLong();
     }
 
     /**
-     * Updates the seed value and rebuilds the internal random generator.
+     * Updates the seed value and rebuilds the internal random generator (using the current algorithm).
      *
      * @param newSeed the new seed value
      */
     public void reseed(final long newSeed) {
+        reseed(newSeed, algorithm);
+    }
+
+    /**
+     * Updates the seed value and the generator algorithm, and rebuilds the internal random generator. If the algorithm
+     * is <code>null</code> or blank, the configured algorithm (or the default) will be used.
+     *
+     * @param newSeed      the new seed value
+     * @param newAlgorithm the name of the generator algorithm
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    public void reseed(final long newSeed, final String newAlgorithm) {
+        val resolvedAlgorithm = resolveAlgorithm(newAlgorithm);
+
+        random = RandomGeneratorFactory.of(resolvedAlgorithm).create(newSeed);
+        children = 0;
         seed = newSeed;
-        random = new Random(newSeed);
-        log.debug("Updating seed to {}", newSeed);
+        algorithm = resolvedAlgorithm;
+        log.debug("Updating seed to {} ({})", newSeed, resolvedAlgorithm);
     }
 
     /**
@@ -89,7 +151,31 @@ public class SharedRandom implements RandomGenerator {
      * @return the SharedRandom instance
      */
     public static SharedRandom generator(final Long seed) {
-        return new SharedRandom(seed);
+        return new SharedRandom(seed, null);
+    }
+
+    /**
+     * Builds a SharedRandom with the specified seed and generator algorithm.
+     *
+     * @param seed      the seed
+     * @param algorithm the name of the generator algorithm
+     * @return the SharedRandom instance
+     */
+    public static SharedRandom generator(final Long seed, final String algorithm) {
+        return new SharedRandom(seed, algorithm);
+    }
+
+    /**
+     * Builds a SharedRandom with the specified seed, using an already resolved generator factory (for the given
+     * algorithm). This avoids resolving the factory for each generator, which is useful for short-lived generators.
+     *
+     * @param seed      the seed
+     * @param algorithm the name of the generator algorithm
+     * @param factory   the factory of the generator algorithm
+     * @return the SharedRandom instance
+     */
+    static SharedRandom generator(final long seed, final String algorithm, final RandomGeneratorFactory<?> factory) {
+        return new SharedRandom(seed, algorithm, factory.create(seed));
     }
 
     /**
@@ -98,7 +184,163 @@ public class SharedRandom implements RandomGenerator {
      * @return the SharedRandom instance
      */
     public static SharedRandom generator() {
-        return generator(null);
+        return generator(null, null);
+    }
+
+    /**
+     * Binds a new generator with the given seed (and the algorithm of the current generator) to the current thread, until
+     * the returned scope is closed - at which point the previous generator is restored. All randomizers used within the
+     * scope generate their values from the scoped generator, independent of the values drawn outside of it.
+     *
+     * <pre>
+     * val scope = SharedRandom.scope(8675309L);
+     * try {
+     *     // generate values...
+     * } finally {
+     *     scope.close();
+     * }
+     * </pre>
+     *
+     * When the scope is not otherwise needed, the <code>withSeed</code> methods are simpler.
+     *
+     * @param seed the seed of the scoped generator
+     * @return the scope, which restores the previous generator when closed
+     */
+    public static Scope scope(final long seed) {
+        return new Scope(bind(generator(seed, shared().getAlgorithm())));
+    }
+
+    /**
+     * Runs the action with a generator with the given seed (and the algorithm of the current generator) bound to the
+     * current thread - the previous generator is restored once the action is complete (see <code>scope(long)</code>).
+     *
+     * <pre>
+     * SharedRandom.withSeed(8675309L, () -&gt; {
+     *     // generate values...
+     * });
+     * </pre>
+     *
+     * @param seed   the seed of the generator
+     * @param action the action
+     */
+    public static void withSeed(final long seed, final Runnable action) {
+        val scope = scope(seed);
+        try {
+            action.run();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Generates a value with a generator with the given seed (and the algorithm of the current generator) bound to the
+     * current thread - the previous generator is restored once the value is generated (see <code>scope(long)</code>).
+     *
+     * <pre>
+     * val values = SharedRandom.withSeed(8675309L, () -&gt; listOf(anIntBetween(1, 10), anInt()).one());
+     * </pre>
+     *
+     * @param seed     the seed of the generator
+     * @param supplier the supplier of the value
+     * @param <T>      the type of the value
+     * @return the supplied value
+     */
+    public static <T> T withSeed(final long seed, final Supplier<T> supplier) {
+        val scope = scope(seed);
+        try {
+            return supplier.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Retrieves the generator instance bound to the current thread.
+     *
+     * @return the generator bound to the current thread
+     */
+    static SharedRandom shared() {
+        var random = SHARED.get();
+        if (random == null) {
+            log.debug("Creating a new random.");
+            random = new SharedRandom(null, null);
+            SHARED.set(random);
+        }
+        return random;
+    }
+
+    /**
+     * Retrieves the generator instance bound to the current thread, without creating one if there is none.
+     *
+     * @return the generator bound to the current thread (or <code>null</code>)
+     */
+    static SharedRandom peek() {
+        return SHARED.get();
+    }
+
+    /**
+     * Installs a source of values which is used in place of the underlying generator (it is still given the generator,
+     * so that it may pass values through). The source remains installed across reseeding.
+     *
+     * @param newSource the source to be installed (or <code>null</code> to use the generator directly)
+     * @return the previously installed source (or <code>null</code>)
+     */
+    Source source(final Source newSource) {
+        val previous = source;
+        source = newSource;
+        return previous;
+    }
+
+    /**
+     * Binds the given generator as the generator for the current thread, returning the previously bound generator so
+     * that it may be restored. Binding does not create a generator for the thread - if none was bound, the previous
+     * generator is <code>null</code>, and binding <code>null</code> unbinds the generator.
+     *
+     * @param random the generator to be bound to the current thread (or <code>null</code>)
+     * @return the previously bound generator (or <code>null</code>)
+     */
+    static SharedRandom bind(final SharedRandom random) {
+        val previous = SHARED.get();
+        if (random != null) {
+            SHARED.set(random);
+        } else {
+            SHARED.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * Derives a (positive) seed value for the given index from the root seed. The derived seed depends only on the root
+     * seed and the index, so it may be used to seed independent generators in a deterministic manner.
+     *
+     * @param rootSeed the root seed
+     * @param index    the index of the derived seed
+     * @return the derived seed
+     */
+    static long deriveSeed(final long rootSeed, final long index) {
+        // SplitMix64 mixing of the root seed stepped by the index
+        long z = rootSeed + (index + 1) * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        z = (z ^ (z >>> 31)) & Long.MAX_VALUE;
+        return z != 0 ? z : 1;
+    }
+
+    /**
+     * Derives a (positive) seed value for the given name (e.g. the unique id of a test) from the root seed. The derived
+     * seed depends only on the root seed and the name, so each name gets its own repeatable seed.
+     *
+     * @param rootSeed the root seed
+     * @param name     the name of the derived seed
+     * @return the derived seed
+     */
+    public static long deriveSeed(final long rootSeed, final String name) {
+        // FNV-1a hash of the name
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            hash = (hash ^ name.charAt(i)) * 0x100000001b3L;
+        }
+        return deriveSeed(rootSeed, hash);
     }
 
     // if a seed is passed, use it, otherwise use configured if exists, then default to current time
@@ -114,4 +356,45 @@ public class SharedRandom implements RandomGenerator {
 
         return value;
     }
+
+    // if an algorithm is passed, use it, otherwise use configured if exists, then default
+    private static String resolveAlgorithm(final String value) {
+        if (value == null || value.isBlank()) {
+            val algorithmProperty = getProperty(ALGORITHM_PROPERTY);
+            return algorithmProperty != null && !algorithmProperty.isBlank() ? algorithmProperty.trim() : DEFAULT_ALGORITHM;
+        }
+        return value.trim();
+    }
+
+    /**
+     * A scope in which a specific generator is bound to the current thread (see <code>scope(long)</code>). The scope
+     * should be closed on the thread which opened it.
+     */
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static final class Scope implements AutoCloseable {
+
+        private final SharedRandom previous;
+
+        /**
+         * Restores the generator which was bound to the thread before the scope was opened.
+         */
+        @Override public void close() {
+            bind(previous);
+        }
+    }
+
+    /**
+     * A source of raw values which intercepts the underlying generator (e.g. to record or replay its values).
+     */
+    @FunctionalInterface
+    interface Source {
+
+        /**
+         * Provides the next raw value.
+         *
+         * @param generator the underlying generator
+         * @return the next value
+         */
+        long nextLong(RandomGenerator generator);
+    }
 }
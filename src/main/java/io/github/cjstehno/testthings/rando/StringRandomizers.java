@@ -18,13 +18,14 @@ package io.github.cjstehno.testthings.rando;
 import lombok.NoArgsConstructor;
 import lombok.val;
 
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.count;
 import static io.github.cjstehno.testthings.rando.SharedRandom.current;
 import static java.util.Locale.ROOT;
-import static java.util.stream.Collectors.joining;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
- * A collection of randomizers for generating strings.
+ * A collection of randomizers for generating strings. See {@link Alphabet} for generating random text directly into
+ * arrays, buffers and builders.
  */
 @NoArgsConstructor(access = PRIVATE)
 public final class StringRandomizers {
@@ -39,6 +40,10 @@ public final class StringRandomizers {
      */
     public static final String NUMBERS = "0123456789";
 
+    private static final Alphabet LETTER_ALPHABET = Alphabet.alphabet(LETTERS);
+    private static final Alphabet NUMBER_ALPHABET = Alphabet.alphabet(NUMBERS);
+    private static final Alphabet ALPHANUMERIC_ALPHABET = Alphabet.alphabet(LETTERS + NUMBERS);
+
     /**
      * Selects a random value from the characters of the given string.
      *
@@ -46,10 +51,18 @@ public final class StringRandomizers {
      * @return the randomizer
      */
     public static Randomizer<String> oneFrom(final String string) {
+        val lower = new String[string.length()];
+        val upper = new String[string.length()];
+        for (int i = 0; i < string.length(); i++) {
+            val ch = String.valueOf(string.charAt(i));
+            lower[i] = ch.toLowerCase(ROOT);
+            upper[i] = ch.toUpperCase(ROOT);
+        }
+
         return () -> {
             val random = current();
-            val ch = String.valueOf(string.charAt(random.nextInt(string.length())));
-            return random.nextBoolean() ? ch.toLowerCase(ROOT) : ch.toUpperCase(ROOT);
+            val index = random.nextInt(lower.length);
+            return random.nextBoolean() ? lower[index] : upper[index];
         };
     }
 
@@ -59,7 +72,7 @@ public final class StringRandomizers {
      * @return the randomizer
      */
     public static Randomizer<String> letter() {
-        return () -> oneFrom(LETTERS).one();
+        return () -> String.valueOf(LETTER_ALPHABET.nextChar());
     }
 
     /**
@@ -68,7 +81,7 @@ public final class StringRandomizers {
      * @return the randomizer
      */
     public static Randomizer<String> number() {
-        return () -> oneFrom(NUMBERS).one();
+        return () -> String.valueOf(NUMBER_ALPHABET.nextChar());
     }
 
     /**
@@ -78,7 +91,7 @@ public final class StringRandomizers {
      * @return the randomizer
      */
     public static Randomizer<String> alphabetic(final Randomizer<Integer> countRando) {
-        return () -> letter().stream(countRando.one()).collect(joining(""));
+        return LETTER_ALPHABET.strings(countRando);
     }
 
     /**
@@ -88,7 +101,7 @@ public final class StringRandomizers {
      * @return the randomizer
      */
     public static Randomizer<String> numeric(final Randomizer<Integer> countRando) {
-        return () -> number().stream(countRando.one()).collect(joining(""));
+        return NUMBER_ALPHABET.strings(countRando);
     }
 
     /**
@@ -98,7 +111,7 @@ public final class StringRandomizers {
      * @return the randomizer
      */
     public static Randomizer<String> alphanumeric(final Randomizer<Integer> countRando) {
-        return () -> oneFrom(LETTERS + NUMBERS).stream(countRando.one()).collect(joining(""));
+        return ALPHANUMERIC_ALPHABET.strings(countRando);
     }
 
     /**
@@ -112,7 +125,7 @@ public final class StringRandomizers {
         return () -> {
             val words = new String[countRando.one()];
             for (int w = 0; w < words.length; w++) {
-                words[w] = alphabetic(wordSizeRando).one();
+                words[w] = LETTER_ALPHABET.nextString(count(wordSizeRando));
             }
             return words;
         };
@@ -125,7 +138,7 @@ public final class StringRandomizers {
      * @return the randomizer
      */
     public static Randomizer<String> wordFrom(final String sentence) {
-        return () -> wordFrom(sentence.split(" ")).one();
+        return wordFrom(sentence.split(" "));
     }
 
     /**
@@ -144,7 +157,7 @@ public final class StringRandomizers {
      * @return the randomizer
      */
     public static Randomizer<Character> aChar() {
-        return () -> letter().one().charAt(0);
+        return LETTER_ALPHABET::nextChar;
     }
 
     /**
@@ -154,6 +167,6 @@ public final class StringRandomizers {
      * @return the randomizer
      */
     public static Randomizer<char[]> charArray(final Randomizer<Integer> countRando) {
-        return () -> alphanumeric(countRando).one().toCharArray();
+        return () -> ALPHANUMERIC_ALPHABET.nextChars(count(countRando));
     }
 }
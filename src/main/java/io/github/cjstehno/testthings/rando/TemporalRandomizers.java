@@ -0,0 +1,306 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.NoArgsConstructor;
+import lombok.val;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.github.cjstehno.testthings.rando.SharedRandom.current;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static java.time.ZoneOffset.UTC;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A collection of randomizers for generating dates and times. The values are sampled directly as epoch-days,
+ * epoch-seconds or nanoseconds within the range, rather than by converting random numbers through time-zone aware
+ * types.
+ *
+ * The day-of-week and business-hours constrained randomizers map a single random index directly onto the matching
+ * days (and times), so they never need to retry - the weekday and weekend constraints correspond to the
+ * <code>isWeekday()</code> and <code>isWeekend()</code> matchers of the <code>TemporalMatcher</code>.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class TemporalRandomizers {
+
+    // 1970-01-05 is the first monday on or after the epoch
+    private static final long MONDAY_EPOCH_DAY = 4;
+
+    private static final LocalTime BUSINESS_OPEN = LocalTime.of(9, 0);
+    private static final LocalTime BUSINESS_CLOSE = LocalTime.of(17, 0);
+
+    /**
+     * Builds a randomizer which will generate a random date between the min (inclusive) and max (exclusive) dates.
+     *
+     * @param min the min date (inclusive)
+     * @param max the max date (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<LocalDate> aLocalDateBetween(final LocalDate min, final LocalDate max) {
+        val minDay = min.toEpochDay();
+        val maxDay = max.toEpochDay();
+        checkRange(minDay, maxDay);
+        return () -> LocalDate.ofEpochDay(current().nextLong(minDay, maxDay));
+    }
+
+    /**
+     * Builds a randomizer which will generate a random date between the min (inclusive) and max (exclusive) dates, which
+     * falls on one of the specified days of the week. Each matching date is equally likely.
+     *
+     * @param min  the min date (inclusive)
+     * @param max  the max date (exclusive)
+     * @param days the allowed days of the week
+     * @return the randomizer
+     * @throws IllegalArgumentException if there are no matching dates in the range
+     */
+    public static Randomizer<LocalDate> aLocalDateBetween(final LocalDate min, final LocalDate max, final DayOfWeek... days) {
+        val calendar = new DayCalendar(days);
+        val minIndex = calendar.indexOf(min.toEpochDay());
+        val maxIndex = calendar.indexOf(max.toEpochDay());
+        if (minIndex >= maxIndex) {
+            throw new IllegalArgumentException("There are no matching days between " + min + " and " + max + ".");
+        }
+        return () -> LocalDate.ofEpochDay(calendar.epochDayOf(current().nextLong(minIndex, maxIndex)));
+    }
+
+    /**
+     * Builds a randomizer which will generate a random weekday (monday through friday) date between the min (inclusive)
+     * and max (exclusive) dates.
+     *
+     * @param min the min date (inclusive)
+     * @param max the max date (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<LocalDate> aWeekdayBetween(final LocalDate min, final LocalDate max) {
+        return aLocalDateBetween(min, max, EnumSet.range(MONDAY, FRIDAY).toArray(DayOfWeek[]::new));
+    }
+
+    /**
+     * Builds a randomizer which will generate a random weekend (saturday or sunday) date between the min (inclusive) and
+     * max (exclusive) dates.
+     *
+     * @param min the min date (inclusive)
+     * @param max the max date (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<LocalDate> aWeekendDayBetween(final LocalDate min, final LocalDate max) {
+        return aLocalDateBetween(min, max, SATURDAY, SUNDAY);
+    }
+
+    /**
+     * Builds a randomizer which will generate a random time between the min (inclusive) and max (exclusive) times.
+     *
+     * @param min the min time (inclusive)
+     * @param max the max time (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<LocalTime> aLocalTimeBetween(final LocalTime min, final LocalTime max) {
+        val minNanos = min.toNanoOfDay();
+        val maxNanos = max.toNanoOfDay();
+        checkRange(minNanos, maxNanos);
+        return () -> LocalTime.ofNanoOfDay(current().nextLong(minNanos, maxNanos));
+    }
+
+    /**
+     * Builds a randomizer which will generate a random instant between the min (inclusive) and max (exclusive)
+     * instants. Ranges of up to ~292 years are sampled with nanosecond resolution, larger ranges are sampled with second
+     * resolution.
+     *
+     * @param min the min instant (inclusive)
+     * @param max the max instant (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<Instant> anInstantBetween(final Instant min, final Instant max) {
+        val span = checkRange(Duration.between(min, max));
+        if (fitsNanos(span)) {
+            val spanNanos = span.toNanos();
+            return () -> min.plusNanos(current().nextLong(spanNanos));
+        }
+
+        val minSecond = min.getNano() > 0 ? min.getEpochSecond() + 1 : min.getEpochSecond();
+        val maxSecond = max.getEpochSecond();
+        return () -> Instant.ofEpochSecond(current().nextLong(minSecond, maxSecond));
+    }
+
+    /**
+     * Builds a randomizer which will generate a random date-time between the min (inclusive) and max (exclusive)
+     * date-times. The local date-time values are sampled on the UTC time-line, so no time-zone rules are involved.
+     *
+     * @param min the min date-time (inclusive)
+     * @param max the max date-time (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<LocalDateTime> aLocalDateTimeBetween(final LocalDateTime min, final LocalDateTime max) {
+        val instants = anInstantBetween(min.toInstant(UTC), max.toInstant(UTC));
+        return () -> LocalDateTime.ofInstant(instants.one(), UTC);
+    }
+
+    /**
+     * Builds a randomizer which will generate a random date-time during business hours (9:00 to 17:00) on a weekday
+     * between the min (inclusive) and max (exclusive) dates.
+     *
+     * @param min the min date (inclusive)
+     * @param max the max date (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<LocalDateTime> aBusinessDateTimeBetween(final LocalDate min, final LocalDate max) {
+        return aBusinessDateTimeBetween(min, max, BUSINESS_OPEN, BUSINESS_CLOSE);
+    }
+
+    /**
+     * Builds a randomizer which will generate a random date-time between the open (inclusive) and close (exclusive)
+     * times on a weekday between the min (inclusive) and max (exclusive) dates.
+     *
+     * @param min   the min date (inclusive)
+     * @param max   the max date (exclusive)
+     * @param open  the opening time of each day (inclusive)
+     * @param close the closing time of each day (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<LocalDateTime> aBusinessDateTimeBetween(
+        final LocalDate min, final LocalDate max, final LocalTime open, final LocalTime close
+    ) {
+        val days = aWeekdayBetween(min, max);
+        val times = aLocalTimeBetween(open, close);
+        return () -> LocalDateTime.of(days.one(), times.one());
+    }
+
+    /**
+     * Builds a randomizer which will generate a random duration between the min (inclusive) and max (exclusive)
+     * durations. Ranges of up to ~292 years are sampled with nanosecond resolution, larger ranges are sampled with second
+     * resolution.
+     *
+     * @param min the min duration (inclusive)
+     * @param max the max duration (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<Duration> aDurationBetween(final Duration min, final Duration max) {
+        val span = checkRange(max.minus(min));
+        if (fitsNanos(span)) {
+            val spanNanos = span.toNanos();
+            return () -> min.plusNanos(current().nextLong(spanNanos));
+        }
+
+        val spanSeconds = span.getSeconds();
+        return () -> min.plusSeconds(current().nextLong(spanSeconds));
+    }
+
+    /**
+     * Builds a randomizer which will generate a monotonic sequence of instants, such as the timestamps of a stream of
+     * events. The first value is the start instant, and each following value is later than the one before it by a
+     * random step between the min (inclusive) and max (exclusive) steps.
+     *
+     * Each randomizer instance maintains its own sequence; it may be shared across threads, but the order in which the
+     * threads receive the values is not deterministic.
+     *
+     * @param start   the first instant of the sequence
+     * @param minStep the min step between values (inclusive, must be positive)
+     * @param maxStep the max step between values (exclusive)
+     * @return the randomizer
+     */
+    public static Randomizer<Instant> monotonicInstants(final Instant start, final Duration minStep, final Duration maxStep) {
+        if (minStep.isNegative() || minStep.isZero()) {
+            throw new IllegalArgumentException("The min step must be positive.");
+        }
+
+        val steps = aDurationBetween(minStep, maxStep);
+        val offset = new AtomicLong();
+        return () -> start.plusNanos(offset.getAndAdd(steps.one().toNanos()));
+    }
+
+    /**
+     * Builds a randomizer which will generate a monotonic sequence of epoch-millisecond timestamps. The first value is
+     * the start value, and each following value is larger than the one before it by a random step between the min
+     * (inclusive) and max (exclusive) steps (the same as {@link SequenceRandomizers#increasing(long, long, long)}).
+     *
+     * @param startMillis the first timestamp of the sequence
+     * @param minStep     the min step between values, in milliseconds (inclusive, must be positive)
+     * @param maxStep     the max step between values, in milliseconds (exclusive)
+     * @return the randomizer
+     */
+    public static LongRandomizer monotonicEpochMillis(final long startMillis, final long minStep, final long maxStep) {
+        return SequenceRandomizers.increasing(startMillis, minStep, maxStep);
+    }
+
+    private static void checkRange(final long min, final long max) {
+        if (min >= max) {
+            throw new IllegalArgumentException("The min value must be less than the max value.");
+        }
+    }
+
+    private static Duration checkRange(final Duration span) {
+        if (span.isNegative() || span.isZero()) {
+            throw new IllegalArgumentException("The min value must be less than the max value.");
+        }
+        return span;
+    }
+
+    private static boolean fitsNanos(final Duration span) {
+        return span.getSeconds() < Long.MAX_VALUE / 1_000_000_000L;
+    }
+
+    /**
+     * Maps epoch-days onto a dense index of the days matching a set of days of the week (and back again), so that a
+     * matching day may be selected with a single random index.
+     */
+    private static final class DayCalendar {
+
+        // the offsets (from monday) of the matching days
+        private final int[] offsets;
+
+        // the number of matching days before each offset (from monday)
+        private final int[] counts = new int[8];
+
+        private DayCalendar(final DayOfWeek[] days) {
+            if (days.length == 0) {
+                throw new IllegalArgumentException("At least one day of the week must be specified.");
+            }
+
+            val matching = EnumSet.noneOf(DayOfWeek.class);
+            for (val day : days) {
+                matching.add(day);
+            }
+
+            offsets = matching.stream().mapToInt(d -> d.getValue() - 1).toArray();
+            for (int d = 0; d < 7; d++) {
+                counts[d + 1] = counts[d] + (matching.contains(DayOfWeek.of(d + 1)) ? 1 : 0);
+            }
+        }
+
+        // the number of matching days between the reference monday and the epoch-day (exclusive)
+        private long indexOf(final long epochDay) {
+            val days = epochDay - MONDAY_EPOCH_DAY;
+            return floorDiv(days, 7) * offsets.length + counts[floorMod(days, 7)];
+        }
+
+        private long epochDayOf(final long index) {
+            return MONDAY_EPOCH_DAY + floorDiv(index, offsets.length) * 7 + offsets[floorMod(index, offsets.length)];
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The (cached) structure of a type, as used to generate randomized instances of it. For a record, the model contains
+ * the canonical constructor and the record components; for any other class, it contains the no-argument constructor
+ * and the writable instance fields (including inherited fields).
+ *
+ * The constructor and fields are resolved to {@link MethodHandle}s once per type, and adapted to erased signatures so
+ * that they may be invoked without reflection.
+ */
+final class TypeModel {
+
+    private static final ClassValue<TypeModel> MODELS = new ClassValue<>() {
+        @Override protected TypeModel computeValue(final Class<?> type) {
+            return new TypeModel(type);
+        }
+    };
+
+    @Getter private final Class<?> type;
+    @Getter private final boolean record;
+    @Getter private final List<Slot> slots;
+
+    /**
+     * For records, the canonical constructor adapted to <code>(Object[])Object</code>, otherwise the no-argument
+     * constructor adapted to <code>()Object</code>.
+     */
+    @Getter private final MethodHandle constructor;
+
+    private TypeModel(final Class<?> type) {
+        this.type = type;
+        this.record = type.isRecord();
+
+        try {
+            val lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            val resolved = new ArrayList<Slot>();
+
+            if (record) {
+                val components = type.getRecordComponents();
+                val componentTypes = Arrays.stream(components).map(c -> c.getType()).toArray(Class<?>[]::new);
+
+                for (val component : components) {
+                    resolved.add(new Slot(component.getName(), component.getType(), component.getGenericType(), null));
+                }
+
+                constructor = lookup.findConstructor(type, methodType(void.class, componentTypes))
+                    .asSpreader(Object[].class, componentTypes.length)
+                    .asType(methodType(Object.class, Object[].class));
+
+            } else {
+                if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                    throw new IllegalArgumentException("Unable to randomize an interface or abstract type: " + type.getName());
+                }
+
+                constructor = lookup.findConstructor(type, methodType(void.class)).asType(methodType(Object.class));
+
+                for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                    val currentLookup = MethodHandles.privateLookupIn(current, MethodHandles.lookup());
+                    for (val field : current.getDeclaredFields()) {
+                        if (isWritable(field)) {
+                            val setter = currentLookup.unreflectSetter(field);
+                            resolved.add(new Slot(field.getName(), field.getType(), field.getGenericType(), setter));
+                        }
+                    }
+                }
+            }
+
+            this.slots = unmodifiableList(resolved);
+
+        } catch (final NoSuchMethodException ex) {
+            throw new IllegalArgumentException(
+                "Unable to randomize %s: it must be a record or have a no-argument constructor.".formatted(type.getName()), ex
+            );
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalArgumentException("Unable to access the members of " + type.getName(), ex);
+        }
+    }
+
+    /**
+     * Retrieves the (cached) model for the given type.
+     *
+     * @param type the type
+     * @return the type model
+     */
+    static TypeModel of(final Class<?> type) {
+        return MODELS.get(type);
+    }
+
+    private static boolean isWritable(final Field field) {
+        val modifiers = field.getModifiers();
+        return !Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && !field.isSynthetic();
+    }
+
+    /**
+     * A value slot of the type - a record component or a writable field.
+     */
+    @RequiredArgsConstructor @Getter
+    static final class Slot {
+
+        private final String name;
+        private final Class<?> type;
+        private final Type genericType;
+
+        /**
+         * The field setter (with its declared signature), or <code>null</code> for record components.
+         */
+        private final MethodHandle setter;
+    }
+}
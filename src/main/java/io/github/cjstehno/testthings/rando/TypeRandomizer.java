@@ -0,0 +1,216 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.val;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.oneOf;
+import static io.github.cjstehno.testthings.rando.NumberRandomizers.*;
+import static io.github.cjstehno.testthings.rando.StringRandomizers.aChar;
+import static io.github.cjstehno.testthings.rando.StringRandomizers.alphanumeric;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A randomizer which generates random instances of a type based on its structure (see {@link TypeModel}). The
+ * randomizer for each field is resolved once, when the randomizer is created, and each field is compiled into a writer
+ * which invokes the field setter handle directly (without boxing, for primitive fields with primitive randomizers).
+ *
+ * @param <O> the type of generated object
+ */
+class TypeRandomizer<O> implements Randomizer<O> {
+
+    private static final Map<Class<?>, Randomizer<?>> DEFAULTS = new HashMap<>();
+
+    static {
+        DEFAULTS.put(int.class, anInt());
+        DEFAULTS.put(Integer.class, anInt());
+        DEFAULTS.put(long.class, aLong());
+        DEFAULTS.put(Long.class, aLong());
+        DEFAULTS.put(double.class, aDouble());
+        DEFAULTS.put(Double.class, aDouble());
+        DEFAULTS.put(float.class, aFloat());
+        DEFAULTS.put(Float.class, aFloat());
+        DEFAULTS.put(short.class, aShort());
+        DEFAULTS.put(Short.class, aShort());
+        DEFAULTS.put(byte.class, aByte());
+        DEFAULTS.put(Byte.class, aByte());
+        DEFAULTS.put(boolean.class, aBoolean());
+        DEFAULTS.put(Boolean.class, aBoolean());
+        DEFAULTS.put(char.class, aChar());
+        DEFAULTS.put(Character.class, aChar());
+        DEFAULTS.put(String.class, alphanumeric(anIntBetween(5, 16)));
+        DEFAULTS.put(BigInteger.class, aBigInteger());
+        DEFAULTS.put(BigDecimal.class, aBigDecimal());
+    }
+
+    private final TypeModel model;
+    private final Randomizer<?>[] componentRandos;
+    private final Object[] componentDefaults;
+    private final FieldWriter[] writers;
+
+    TypeRandomizer(final Class<O> type, final Config config) {
+        this.model = TypeModel.of(type);
+
+        val slots = model.getSlots();
+        if (model.isRecord()) {
+            componentRandos = new Randomizer<?>[slots.size()];
+            componentDefaults = new Object[slots.size()];
+            writers = null;
+            for (int i = 0; i < slots.size(); i++) {
+                componentRandos[i] = config.resolve(slots.get(i));
+                componentDefaults[i] = defaultValue(slots.get(i).getType());
+            }
+
+        } else {
+            componentRandos = null;
+            componentDefaults = null;
+            writers = slots.stream()
+                .map(slot -> {
+                    val rando = config.resolve(slot);
+                    return rando != null ? writer(slot, rando) : null;
+                })
+                .filter(w -> w != null)
+                .toArray(FieldWriter[]::new);
+        }
+    }
+
+    /**
+     * Resolves the default randomizer for the given type, if there is one.
+     *
+     * @param type the type
+     * @return the default randomizer or <code>null</code>
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Randomizer<?> defaultRandomizer(final Class<?> type) {
+        if (type.isEnum()) {
+            return oneOf((Class<? extends Enum>) type);
+        }
+        return DEFAULTS.get(type);
+    }
+
+    @Override @SuppressWarnings("unchecked") public O one() {
+        try {
+            if (componentRandos != null) {
+                val args = new Object[componentRandos.length];
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = componentRandos[i] != null ? componentRandos[i].one() : componentDefaults[i];
+                }
+                return (O) (Object) model.getConstructor().invokeExact(args);
+            }
+
+            val instance = (Object) model.getConstructor().invokeExact();
+            for (val writer : writers) {
+                writer.write(instance);
+            }
+            return (O) instance;
+
+        } catch (final RuntimeException | Error ex) {
+            throw ex;
+        } catch (final Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static FieldWriter writer(final TypeModel.Slot slot, final Randomizer<?> rando) {
+        val setter = slot.getSetter();
+        val type = slot.getType();
+
+        if (type == int.class && rando instanceof IntRandomizer ints) {
+            val handle = setter.asType(methodType(void.class, Object.class, int.class));
+            return target -> {
+                handle.invokeExact(target, ints.oneInt());
+            };
+        } else if (type == long.class && rando instanceof LongRandomizer longs) {
+            val handle = setter.asType(methodType(void.class, Object.class, long.class));
+            return target -> {
+                handle.invokeExact(target, longs.oneLong());
+            };
+        } else if (type == double.class && rando instanceof DoubleRandomizer doubles) {
+            val handle = setter.asType(methodType(void.class, Object.class, double.class));
+            return target -> {
+                handle.invokeExact(target, doubles.oneDouble());
+            };
+        }
+
+        val handle = setter.asType(methodType(void.class, Object.class, Object.class));
+        return target -> {
+            handle.invokeExact(target, (Object) rando.one());
+        };
+    }
+
+    // the default value of the type (e.g. null, or zero for primitives)
+    private static Object defaultValue(final Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
+    /**
+     * Writes a generated value into a field of the target.
+     */
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(Object target) throws Throwable;
+    }
+
+    /**
+     * The default {@link FieldRandomizers} implementation.
+     */
+    static class Config implements FieldRandomizers {
+
+        private final Map<String, Randomizer<?>> byName = new HashMap<>();
+        private final Map<Class<?>, Randomizer<?>> byType = new HashMap<>();
+        private final Set<String> ignored = new HashSet<>();
+
+        @Override public FieldRandomizers field(final String name, final Randomizer<?> randomizer) {
+            byName.put(name, randomizer);
+            return this;
+        }
+
+        @Override public FieldRandomizers type(final Class<?> type, final Randomizer<?> randomizer) {
+            byType.put(type, randomizer);
+            return this;
+        }
+
+        @Override public FieldRandomizers ignore(final String name) {
+            ignored.add(name);
+            return this;
+        }
+
+        boolean isIgnored(final TypeModel.Slot slot) {
+            return ignored.contains(slot.getName());
+        }
+
+        Randomizer<?> resolve(final TypeModel.Slot slot) {
+            if (ignored.contains(slot.getName())) {
+                return null;
+            } else if (byName.containsKey(slot.getName())) {
+                return byName.get(slot.getName());
+            }
+            return resolve(slot.getType());
+        }
+
+        Randomizer<?> resolve(final Class<?> type) {
+            return byType.containsKey(type) ? byType.get(type) : defaultRandomizer(type);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.val;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A randomizer which wraps another randomizer so that it only generates values which have not already been generated.
+ *
+ * The generated values are tracked in a compact form where possible: integral numbers and characters are tracked by
+ * their exact value, floating point numbers by their bits, and character sequences by a 64-bit fingerprint (all in a
+ * primitive hash set), as long as they are all of the same type. Values of other types are tracked in a standard set,
+ * so that values of different types (e.g. <code>1</code> and <code>1L</code>) never collide. A fingerprint collision may
+ * cause a new value to be rejected, but a duplicate value is never generated.
+ *
+ * @param <V> the type of the generated value
+ */
+class UniqueRandomizer<V> implements Randomizer<V> {
+
+    private final Randomizer<V> randomizer;
+    private final int maxAttempts;
+    private final LongHashSet keys = new LongHashSet();
+    private Class<?> keyType;
+    private Set<Object> others;
+    private boolean containsNull;
+
+    UniqueRandomizer(final Randomizer<V> randomizer, final int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("The max attempts must be greater than zero.");
+        }
+        this.randomizer = randomizer;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override public V one() {
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            val value = randomizer.one();
+            if (track(value)) {
+                return value;
+            }
+        }
+
+        throw new IllegalStateException(
+            "Unable to generate a unique value after %d attempts - the randomizer may be exhausted.".formatted(maxAttempts)
+        );
+    }
+
+    private synchronized boolean track(final Object value) {
+        if (value == null) {
+            if (containsNull) {
+                return false;
+            }
+            return containsNull = true;
+
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return track(value, ((Number) value).longValue());
+
+        } else if (value instanceof Character ch) {
+            return track(value, ch);
+
+        } else if (value instanceof Double || value instanceof Float) {
+            return track(value, Double.doubleToLongBits(((Number) value).doubleValue()));
+
+        } else if (value instanceof CharSequence chars) {
+            return track(value, fingerprint(chars));
+        }
+
+        return trackOther(value);
+    }
+
+    // only values of a single type are tracked by key (so that e.g. 1 and 1L do not collide) - others are tracked boxed
+    private boolean track(final Object value, final long key) {
+        if (keyType == null) {
+            keyType = value.getClass();
+        }
+        return keyType == value.getClass() ? keys.add(key) : trackOther(value);
+    }
+
+    private boolean trackOther(final Object value) {
+        if (others == null) {
+            others = new HashSet<>();
+        }
+        return others.add(value);
+    }
+
+    // 64-bit FNV-1a hash of the characters
+    private static long fingerprint(final CharSequence chars) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < chars.length(); i++) {
+            hash ^= chars.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
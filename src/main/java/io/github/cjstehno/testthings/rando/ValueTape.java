@@ -0,0 +1,348 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import lombok.Getter;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A tape of the values generated by a {@link Randomizer}. Unlike a {@link RandomTape}, which records the raw values
+ * drawn from the generator, a value tape records each generated value itself, so a replayed tape produces the same
+ * values no matter how the randomizer (or the code around it) draws its random values - and no matter which generator
+ * it draws them from. This makes a recorded tape useful as a test fixture which survives changes to the code.
+ *
+ * The values are written in a compact binary form, tagged by type: <code>null</code>, the primitive wrapper types,
+ * <code>String</code> and <code>UUID</code> values are supported directly, and any other type of value is written by a
+ * provided {@link Codec}. A tape is written in buffered blocks, and replayed from a memory-mapped file - no other
+ * types are ever instantiated by a replay.
+ *
+ * <pre>
+ * try (val tape = ValueTape.recorded(randomizer, path, codec)) {
+ *     tape.many(100); // generated by the randomizer, and recorded
+ * }
+ *
+ * try (val tape = ValueTape.replayed(path, codec)) {
+ *     tape.many(100); // the same values, read from the tape
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the recorded value
+ */
+public abstract class ValueTape<T> implements Randomizer<T>, AutoCloseable {
+
+    private static final int MAGIC = 0x54545654;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte BYTE = 2;
+    private static final byte SHORT = 3;
+    private static final byte CHARACTER = 4;
+    private static final byte INTEGER = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte STRING = 9;
+    private static final byte UUID_VALUE = 10;
+    private static final byte ENCODED = 11;
+
+    /**
+     * The path of the tape file.
+     */
+    @Getter private final Path path;
+
+    /**
+     * The number of values recorded or replayed so far.
+     */
+    @Getter protected long count;
+
+    /**
+     * The codec used for values which are not supported directly - may be <code>null</code>.
+     */
+    protected final Codec<T> codec;
+
+    private ValueTape(final Path path, final Codec<T> codec) {
+        this.path = path;
+        this.codec = codec;
+    }
+
+    /**
+     * Converts the values of a type which is not supported directly by the tape to and from bytes.
+     *
+     * @param <T> the type of the value
+     */
+    public interface Codec<T> {
+
+        /**
+         * Encodes the value as bytes.
+         *
+         * @param value the value (not <code>null</code>)
+         * @return the encoded bytes
+         */
+        byte[] encode(T value);
+
+        /**
+         * Decodes the value from its encoded bytes.
+         *
+         * @param bytes the encoded bytes
+         * @return the decoded value
+         */
+        T decode(byte[] bytes);
+    }
+
+    /**
+     * Wraps the given randomizer so that each value it generates is recorded to the given tape file. Any existing file
+     * will be overwritten. Only the directly supported types of values may be recorded.
+     *
+     * @param randomizer the randomizer generating the values
+     * @param path       the path of the tape file
+     * @param <T>        the type of the recorded value
+     * @return the recording tape, which must be closed to complete the recording
+     * @throws IOException if there is a problem opening the file
+     */
+    public static <T> ValueTape<T> recorded(final Randomizer<T> randomizer, final Path path) throws IOException {
+        return recorded(randomizer, path, null);
+    }
+
+    /**
+     * Wraps the given randomizer so that each value it generates is recorded to the given tape file, using the codec
+     * for the values which are not supported directly. Any existing file will be overwritten.
+     *
+     * @param randomizer the randomizer generating the values
+     * @param path       the path of the tape file
+     * @param codec      the codec for the values which are not supported directly
+     * @param <T>        the type of the recorded value
+     * @return the recording tape, which must be closed to complete the recording
+     * @throws IOException if there is a problem opening the file
+     */
+    public static <T> ValueTape<T> recorded(final Randomizer<T> randomizer, final Path path, final Codec<T> codec) throws IOException {
+        return new Recorder<>(randomizer, path, codec, FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE));
+    }
+
+    /**
+     * Opens the given tape file to replay its recorded values. Generating more values than were recorded will throw
+     * an {@link IllegalStateException}.
+     *
+     * @param path the path of the tape file
+     * @param <T>  the type of the recorded value
+     * @return the replaying tape, which should be closed when no longer used
+     * @throws IOException              if there is a problem reading the file
+     * @throws IllegalArgumentException if the file is not a valid tape file
+     */
+    public static <T> ValueTape<T> replayed(final Path path) throws IOException {
+        return replayed(path, null);
+    }
+
+    /**
+     * Opens the given tape file to replay its recorded values, using the codec for the values which are not supported
+     * directly. Generating more values than were recorded will throw an {@link IllegalStateException}.
+     *
+     * @param path  the path of the tape file
+     * @param codec the codec for the values which are not supported directly
+     * @param <T>   the type of the recorded value
+     * @return the replaying tape, which should be closed when no longer used
+     * @throws IOException              if there is a problem reading the file
+     * @throws IllegalArgumentException if the file is not a valid tape file
+     */
+    public static <T> ValueTape<T> replayed(final Path path, final Codec<T> codec) throws IOException {
+        try (val channel = FileChannel.open(path, READ)) {
+            if (channel.size() > Integer.MAX_VALUE || channel.size() < HEADER_SIZE) {
+                throw new IllegalArgumentException("The file (" + path + ") is not a supported value tape.");
+            }
+
+            val tape = channel.map(READ_ONLY, 0, channel.size());
+            if (tape.getInt() != MAGIC || tape.getInt() != VERSION) {
+                throw new IllegalArgumentException("The file (" + path + ") is not a supported value tape.");
+            }
+
+            return new Player<>(path, codec, tape);
+        }
+    }
+
+    /**
+     * Completes the recording or replay.
+     *
+     * @throws IOException if there is a problem writing the tape
+     */
+    @Override public void close() throws IOException {
+        // nothing by default
+    }
+
+    private static final class Recorder<T> extends ValueTape<T> {
+
+        private final Randomizer<T> randomizer;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Recorder(final Randomizer<T> randomizer, final Path path, final Codec<T> codec, final FileChannel channel) {
+            super(path, codec);
+            this.randomizer = randomizer;
+            this.channel = channel;
+
+            buffer.putInt(MAGIC).putInt(VERSION);
+        }
+
+        @Override public synchronized T one() {
+            val value = randomizer.one();
+            try {
+                write(value);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            count++;
+            return value;
+        }
+
+        @Override public synchronized void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+
+        private void write(final T value) throws IOException {
+            if (value == null) {
+                reserve(1).put(NULL);
+            } else if (value instanceof Boolean bool) {
+                reserve(2).put(BOOLEAN).put((byte) (bool ? 1 : 0));
+            } else if (value instanceof Byte num) {
+                reserve(2).put(BYTE).put(num);
+            } else if (value instanceof Short num) {
+                reserve(3).put(SHORT).putShort(num);
+            } else if (value instanceof Character chr) {
+                reserve(3).put(CHARACTER).putChar(chr);
+            } else if (value instanceof Integer num) {
+                reserve(5).put(INTEGER).putInt(num);
+            } else if (value instanceof Long num) {
+                reserve(9).put(LONG).putLong(num);
+            } else if (value instanceof Float num) {
+                reserve(5).put(FLOAT).putFloat(num);
+            } else if (value instanceof Double num) {
+                reserve(9).put(DOUBLE).putDouble(num);
+            } else if (value instanceof String str) {
+                writeBytes(STRING, str.getBytes(UTF_8));
+            } else if (value instanceof UUID uuid) {
+                reserve(17).put(UUID_VALUE).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+            } else if (codec != null) {
+                writeBytes(ENCODED, codec.encode(value));
+            } else {
+                throw new IllegalArgumentException("The value type (" + value.getClass().getName() + ") requires a codec to be recorded.");
+            }
+        }
+
+        private void writeBytes(final byte tag, final byte[] bytes) throws IOException {
+            reserve(5).put(tag).putInt(bytes.length);
+            if (bytes.length > buffer.capacity()) {
+                flush();
+                val wrapped = ByteBuffer.wrap(bytes);
+                while (wrapped.hasRemaining()) {
+                    channel.write(wrapped);
+                }
+            } else {
+                reserve(bytes.length).put(bytes);
+            }
+        }
+
+        private ByteBuffer reserve(final int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+            return buffer;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    private static final class Player<T> extends ValueTape<T> {
+
+        private final MappedByteBuffer tape;
+
+        private Player(final Path path, final Codec<T> codec, final MappedByteBuffer tape) {
+            super(path, codec);
+            this.tape = tape;
+        }
+
+        @Override @SuppressWarnings("unchecked") public synchronized T one() {
+            if (!tape.hasRemaining()) {
+                throw new IllegalStateException("The value tape (" + getPath() + ") is exhausted after " + count + " values.");
+            }
+
+            try {
+                val value = read(tape.get());
+                count++;
+                return (T) value;
+            } catch (final BufferUnderflowException ex) {
+                throw new IllegalStateException("The value tape (" + getPath() + ") is truncated after " + count + " values.");
+            }
+        }
+
+        private Object read(final byte tag) {
+            return switch (tag) {
+                case NULL -> null;
+                case BOOLEAN -> tape.get() != 0;
+                case BYTE -> tape.get();
+                case SHORT -> tape.getShort();
+                case CHARACTER -> tape.getChar();
+                case INTEGER -> tape.getInt();
+                case LONG -> tape.getLong();
+                case FLOAT -> tape.getFloat();
+                case DOUBLE -> tape.getDouble();
+                case STRING -> new String(readBytes(), UTF_8);
+                case UUID_VALUE -> new UUID(tape.getLong(), tape.getLong());
+                case ENCODED -> decode(readBytes());
+                default -> throw new IllegalStateException("The value tape (" + getPath() + ") contains an unknown value type (" + tag + ").");
+            };
+        }
+
+        private byte[] readBytes() {
+            val bytes = new byte[tape.getInt()];
+            tape.get(bytes);
+            return bytes;
+        }
+
+        private T decode(final byte[] bytes) {
+            if (codec == null) {
+                throw new IllegalStateException("The value tape (" + getPath() + ") requires a codec to be replayed.");
+            }
+            return codec.decode(bytes);
+        }
+    }
+}
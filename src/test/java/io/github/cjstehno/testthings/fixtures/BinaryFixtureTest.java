@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.fixtures;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.github.cjstehno.testthings.fixtures.BinaryFixture.binaryFixture;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class BinaryFixtureTest {
+
+    private static final long SIZE = 3 * 1024 * 1024 + 5;
+
+    @TempDir Path tempDir;
+
+    @Test void deterministicContent() throws Exception {
+        val first = binaryFixture(SIZE).seed(8675309L).writeTo(tempDir.resolve("first.bin"));
+        val second = binaryFixture(SIZE).seed(8675309L).writeTo(tempDir.resolve("second.bin"));
+        val other = binaryFixture(SIZE).seed(42L).writeTo(tempDir.resolve("other.bin"));
+
+        assertEquals(SIZE, Files.size(first));
+        assertEquals(-1, Files.mismatch(first, second));
+        assertNotEquals(-1, Files.mismatch(first, other));
+    }
+
+    @Test void sharedRandomSeed() throws Exception {
+        val bytes = Files.readAllBytes(binaryFixture(10).writeTo(tempDir.resolve("small.bin")));
+        assertArrayEquals(new byte[]{-99, 27, 9, 0, -117, -14, 117, 15, 80, -92}, bytes);
+    }
+
+    @Test void sparseRegions() throws Exception {
+        val file = binaryFixture(10_000).seed(8675309L)
+            .sparse(100, 200)
+            .sparse(250, 100)
+            .sparse(9_000, 1_000)
+            .writeTo(tempDir.resolve("sparse.bin"));
+
+        val bytes = Files.readAllBytes(file);
+        assertEquals(10_000, bytes.length);
+
+        for (int i = 100; i < 350; i++) {
+            assertEquals(0, bytes[i]);
+        }
+        for (int i = 9_000; i < 10_000; i++) {
+            assertEquals(0, bytes[i]);
+        }
+        assertNotEquals(0, countNonZero(bytes, 0, 100));
+        assertNotEquals(0, countNonZero(bytes, 350, 9_000));
+    }
+
+    @Test void emptyFile() throws Exception {
+        assertEquals(0, Files.size(binaryFixture(0).writeTo(tempDir.resolve("empty.bin"))));
+    }
+
+    @Test void invalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> binaryFixture(-1));
+        assertThrows(IllegalArgumentException.class, () -> binaryFixture(100).sparse(50, 51));
+        assertThrows(IllegalArgumentException.class, () -> binaryFixture(100).seed(0));
+    }
+
+    private static int countNonZero(final byte[] bytes, final int from, final int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (bytes[i] != 0) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.fixtures;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import io.github.cjstehno.testthings.rando.SharedRandom;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.github.cjstehno.testthings.fixtures.ImageFixture.imageFixture;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class ImageFixtureTest {
+
+    @TempDir Path cacheDir;
+    @TempDir Path tempDir;
+
+    @Test void formats() throws Exception {
+        for (val format : new String[]{"png", "gif", "jpg"}) {
+            val file = imageFixture(format, 64, 48).cacheDirectory(cacheDir).writeTo(tempDir.resolve("image." + format));
+
+            val image = ImageIO.read(file.toFile());
+            assertEquals(64, image.getWidth());
+            assertEquals(48, image.getHeight());
+        }
+    }
+
+    @Test void deterministicRendering() {
+        val first = imageFixture("png", 40, 30).seed(8675309L).render();
+        val second = imageFixture("png", 40, 30).seed(8675309L).render();
+        val other = imageFixture("png", 40, 30).seed(42L).render();
+
+        assertEquals(first.getRGB(0, 0), second.getRGB(0, 0));
+        assertEquals(first.getRGB(39, 29), second.getRGB(39, 29));
+        assertNotEquals(first.getRGB(0, 0), other.getRGB(0, 0));
+
+        // the rendering does not depend on the configured generator algorithm
+        System.setProperty(SharedRandom.ALGORITHM_PROPERTY, "Xoshiro256PlusPlus");
+        try {
+            assertEquals(first.getRGB(0, 0), imageFixture("png", 40, 30).seed(8675309L).render().getRGB(0, 0));
+        } finally {
+            System.setProperty(SharedRandom.ALGORITHM_PROPERTY, "");
+        }
+    }
+
+    @Test void cached() throws Exception {
+        val fixture = imageFixture("PNG", 32, 32).seed(8675309L).cacheDirectory(cacheDir);
+
+        val cached = fixture.cached();
+        assertEquals(cacheDir.resolve("image-v1-32x32-8675309.png"), cached);
+
+        val modified = Files.getLastModifiedTime(cached);
+        assertEquals(cached, imageFixture("png", 32, 32).seed(8675309L).cacheDirectory(cacheDir).cached());
+        assertEquals(modified, Files.getLastModifiedTime(cached));
+
+        assertArrayEquals(Files.readAllBytes(cached), fixture.toBytes());
+        try (val files = Files.list(cacheDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test void unseededNotCached() throws Exception {
+        val fixture = imageFixture("png", 32, 32).cacheDirectory(cacheDir);
+
+        val file = fixture.writeTo(tempDir.resolve("image.png"));
+        assertArrayEquals(Files.readAllBytes(file), fixture.toBytes());
+        assertThrows(IllegalStateException.class, fixture::cached);
+        try (val files = Files.list(cacheDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test void invalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> imageFixture("nope", 10, 10));
+        assertThrows(IllegalArgumentException.class, () -> imageFixture("png", 0, 10));
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.fixtures;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.github.cjstehno.testthings.fixtures.TextFixture.textFixture;
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.constant;
+import static java.nio.charset.StandardCharsets.UTF_16BE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class TextFixtureTest {
+
+    @TempDir Path tempDir;
+
+    @Test void lines() throws Exception {
+        val file = textFixture()
+            .words(Planet.class)
+            .wordsPerLine(constant(3))
+            .linesPerParagraph(constant(2))
+            .writeLines(tempDir.resolve("lines.txt"), 5);
+
+        val lines = Files.readAllLines(file);
+        assertEquals(7, lines.size());
+        assertEquals("", lines.get(2));
+        assertEquals("", lines.get(5));
+        assertEquals("Venus mercury mars.", lines.get(0));
+
+        lines.stream().filter(line -> !line.isEmpty()).forEach(line -> {
+            assertTrue(line.endsWith("."));
+            assertEquals(3, line.split(" ").length);
+        });
+    }
+
+    @Test void bytes() throws Exception {
+        val file = textFixture().writeBytes(tempDir.resolve("bytes.txt"), 1_000_003);
+        assertEquals(1_000_003, Files.size(file));
+    }
+
+    @Test void bytesAtCharacterBoundary() throws Exception {
+        for (int size = 1; size <= 40; size++) {
+            val file = textFixture().words("\u00e9t\u00e9", "\u00fcber").seed(8675309L).writeBytes(tempDir.resolve("utf8.txt"), size);
+            assertEquals(size, Files.size(file));
+
+            // the content is valid UTF-8 (no multi-byte character is split)
+            assertDoesNotThrow(() -> UTF_8.newDecoder().decode(ByteBuffer.wrap(Files.readAllBytes(file))));
+        }
+    }
+
+    @Test void deterministicContent() throws Exception {
+        val first = textFixture().seed(8675309L).writeBytes(tempDir.resolve("first.txt"), 100_000);
+        val second = textFixture().seed(8675309L).writeBytes(tempDir.resolve("second.txt"), 100_000);
+        val other = textFixture().seed(42L).writeBytes(tempDir.resolve("other.txt"), 100_000);
+
+        assertEquals(-1, Files.mismatch(first, second));
+        assertNotEquals(-1, Files.mismatch(first, other));
+    }
+
+    @Test void writerMatchesFile() throws Exception {
+        val file = textFixture().seed(8675309L).writeLines(tempDir.resolve("lines.txt"), 100);
+
+        val writer = new StringWriter();
+        textFixture().seed(8675309L).writeLines(writer, 100);
+
+        assertEquals(Files.readString(file), writer.toString());
+    }
+
+    @Test void charsetAndWords() throws Exception {
+        val file = textFixture()
+            .words("alpha", "beta")
+            .charset(UTF_16BE)
+            .writeLines(tempDir.resolve("utf16.txt"), 10);
+
+        val text = Files.readString(file, UTF_16BE);
+        assertTrue(text.replaceAll("[\\s.]+", " ").trim().toLowerCase().matches("((alpha|beta) ?)+"));
+        assertNotEquals(text, Files.readString(file, UTF_8));
+    }
+
+    @Test void dictionary() throws Exception {
+        val writer = new StringWriter();
+        textFixture().dictionary("/short-text-file.txt").wordsPerLine(constant(4)).writeLines(writer, 1);
+        assertEquals(4, writer.toString().split(" ").length);
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.junit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(FileFixturesExtension.class)
+class FileFixturesExtensionTest {
+
+    @BinaryFile(size = 2048, seed = 8675309L) static Path staticBinary;
+    @BinaryFile(size = 1024, sparse = {0, 512}) File binary;
+    @TextFile(lines = 10) Path text;
+
+    @Test void binaryFields() throws Exception {
+        assertEquals(2048, Files.size(staticBinary));
+        assertEquals(1024, binary.length());
+
+        final byte[] bytes = Files.readAllBytes(binary.toPath());
+        for (int i = 0; i < 512; i++) {
+            assertEquals(0, bytes[i]);
+        }
+    }
+
+    @Test void textFields() throws Exception {
+        assertTrue(Files.readAllLines(text).stream().filter(line -> !line.isEmpty()).count() == 10);
+    }
+
+    @Test void textParams(
+        @TextFile(bytes = 4096, seed = 8675309L) final Path first,
+        @TextFile(bytes = 4096, seed = 8675309L, charset = "UTF-16") final Path second,
+        @TextFile(lines = 1, dictionary = "/short-text-file.txt") final File third
+    ) throws Exception {
+        assertEquals(4096, Files.size(first));
+        assertEquals(4096, Files.size(second));
+        assertTrue(third.length() > 0);
+    }
+
+    @Test void imageParams(
+        @ImageFile(width = 64, height = 32, seed = 8675309L) final Path png,
+        @ImageFile(format = "jpg", width = 20, height = 10) final File jpg
+    ) throws Exception {
+        assertTrue(png.toString().endsWith(".png"));
+        assertEquals(64, ImageIO.read(png.toFile()).getWidth());
+        assertEquals(10, ImageIO.read(jpg).getHeight());
+    }
+
+    @Test void binaryParams(
+        @BinaryFile(size = 2048, seed = 8675309L) final Path first,
+        @BinaryFile(size = 2048, seed = 8675309L) final Path second
+    ) throws Exception {
+        assertNotEquals(first, second);
+        assertEquals(-1, Files.mismatch(first, second));
+        assertEquals(-1, Files.mismatch(first, staticBinary));
+    }
+}
@@ -54,4 +54,13 @@ class SharedRandomExtensionCustomTest {
         assertEquals(8675309L, ((SharedRandom) rand).getSeed());
         assertEquals(-4523360879423753120L, rand.nextLong());
     }
+
+    @Test @ApplySeed(value = 8675309L, algorithm = "L64X128MixRandom")
+    void testingAlgorithm() {
+        val rand = SharedRandom.current();
+
+        assertEquals(8675309L, ((SharedRandom) rand).getSeed());
+        assertEquals("L64X128MixRandom", ((SharedRandom) rand).getAlgorithm());
+        assertEquals(SharedRandom.generator(8675309L, "L64X128MixRandom").nextLong(), rand.nextLong());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.junit;
+
+import io.github.cjstehno.testthings.rando.SharedRandom;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.github.cjstehno.testthings.junit.SharedRandomExtension.SEED_REPORT_KEY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SharedRandomExtension.class)
+class SharedRandomExtensionPerTestTest {
+
+    @SuppressWarnings("unused")
+    private static final boolean PER_TEST_SEED = true;
+
+    private static final AtomicReference<Long> OTHER_SEED = new AtomicReference<>();
+
+    @Test void perTestSeed() {
+        assertPerTestSeed();
+    }
+
+    @Test void otherPerTestSeed() {
+        assertPerTestSeed();
+    }
+
+    @Test @ApplySeed(8675309L)
+    void appliedSeed() throws Exception {
+        val rand = (SharedRandom) SharedRandom.current();
+        assertEquals(8675309L, rand.getSeed());
+
+        // the applied seed reproduces the child seeds of a per-test seed
+        assertTrue(rand.isInheritable());
+        val first = childSeed();
+        rand.reseed(8675309L);
+        assertEquals(first, childSeed());
+    }
+
+    @Test void childThreads() throws Exception {
+        val rand = (SharedRandom) SharedRandom.current();
+        assertTrue(rand.isInheritable());
+
+        val first = childSeed();
+        assertNotEquals(rand.getSeed(), first);
+        assertNotEquals(first, childSeed());
+
+        // the same seed produces the same child seeds
+        rand.reseed(rand.getSeed());
+        assertEquals(first, childSeed());
+    }
+
+    @Test void failureReport() {
+        val context = mock(ExtensionContext.class);
+        when(context.getDisplayName()).thenReturn("failing()");
+
+        val failure = new AssertionError("failed");
+        val thrown = assertThrows(AssertionError.class, () -> new SharedRandomExtension().handleTestExecutionException(context, failure));
+
+        assertSame(failure, thrown);
+        val rand = (SharedRandom) SharedRandom.current();
+        verify(context).publishReportEntry(SEED_REPORT_KEY, rand.getSeed() + " (" + rand.getAlgorithm() + ")");
+    }
+
+    private static void assertPerTestSeed() {
+        val seed = ((SharedRandom) SharedRandom.current()).getSeed();
+        assertNotEquals(SharedRandomExtension.DEFAULT_KNOWN_SEED, seed);
+
+        // the seeds of the two tests differ (whichever runs second checks)
+        val other = OTHER_SEED.getAndSet(seed);
+        if (other != null) {
+            assertNotEquals(other, seed);
+        }
+    }
+
+    private static long childSeed() throws InterruptedException {
+        val seed = new AtomicReference<Long>();
+        val thread = new Thread(() -> seed.set(((SharedRandom) SharedRandom.current()).getSeed()));
+        thread.start();
+        thread.join();
+        return seed.get();
+    }
+}
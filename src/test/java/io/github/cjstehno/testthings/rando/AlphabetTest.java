@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.nio.CharBuffer;
+
+import static io.github.cjstehno.testthings.junit.SharedRandomExtension.DEFAULT_KNOWN_SEED;
+import static io.github.cjstehno.testthings.rando.Alphabet.alphabet;
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.constant;
+import static io.github.cjstehno.testthings.rando.StringRandomizers.LETTERS;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class AlphabetTest {
+
+    @Test void strings() {
+        val three = alphabet(LETTERS).strings(constant(5)).many(3);
+        assertEquals(3, three.size());
+        assertEquals("JGAAM", three.get(0));
+        assertEquals("MToyp", three.get(1));
+        assertEquals("bgsEv", three.get(2));
+    }
+
+    @Test void sinks() {
+        val alphabet = alphabet(LETTERS);
+        val expected = alphabet.nextString(100);
+
+        reseed();
+        assertEquals(expected, alphabet.appendTo(new StringBuilder(), 100).toString());
+
+        reseed();
+        assertEquals(expected, alphabet.fill(CharBuffer.allocate(100)).flip().toString());
+
+        reseed();
+        assertArrayEquals(expected.toCharArray(), alphabet.nextChars(100));
+
+        reseed();
+        val bytes = new byte[100];
+        alphabet.fill(bytes, 0, 100);
+        assertEquals(expected, new String(bytes, ISO_8859_1));
+    }
+
+    @Test void singleCase() {
+        val value = alphabet("abc", false).nextString(1000);
+        assertEquals(1000, value.length());
+        assertTrue(value.chars().allMatch(ch -> ch >= 'a' && ch <= 'c'));
+    }
+
+    @Test void nonLatin1() {
+        val alphabet = alphabet("\u03b1\u03b2\u03b3");
+        assertFalse(alphabet.isLatin1());
+
+        val value = alphabet.nextString(1000);
+        assertEquals(1000, value.length());
+        assertTrue(value.chars().allMatch(ch -> "\u03b1\u03b2\u03b3\u0391\u0392\u0393".indexOf(ch) >= 0));
+        assertThrows(IllegalStateException.class, () -> alphabet.fill(new byte[10], 0, 10));
+    }
+
+    @Test void longString() {
+        assertEquals(20_000, alphabet(LETTERS).nextString(20_000).length());
+        assertEquals("", alphabet(LETTERS).nextString(0));
+    }
+
+    private static void reseed() {
+        ((SharedRandom) SharedRandom.current()).reseed(DEFAULT_KNOWN_SEED);
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+
+import static io.github.cjstehno.testthings.rando.ArrayRandomizers.*;
+import static io.github.cjstehno.testthings.rando.ArrayShape.*;
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.constant;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class ArrayRandomizersTest {
+
+    @Test void ints() {
+        assertArrayEquals(new int[]{65, 37, 31}, intArray(constant(3), 1, 100).one());
+        assertThrows(IllegalArgumentException.class, () -> intArray(constant(3), 10, 10));
+    }
+
+    @Test void longs() {
+        val array = longArray(constant(1000), -50L, 50L).one();
+        assertEquals(1000, array.length);
+        assertTrue(Arrays.stream(array).allMatch(v -> v >= -50 && v < 50));
+    }
+
+    @Test void doubles() {
+        val array = doubleArray(constant(1000), 1.5, 2.5).one();
+        assertTrue(Arrays.stream(array).allMatch(v -> v >= 1.5 && v < 2.5));
+    }
+
+    @Test void floats() {
+        val array = floatArray(constant(1000), -1f, 1f).one();
+        for (val value : array) {
+            assertTrue(value >= -1f && value < 1f);
+        }
+    }
+
+    @Test void shapes() {
+        val sorted = intArray(constant(10_000), 0, 1_000_000, SORTED).one();
+        assertTrue(isSorted(sorted));
+
+        val reversed = longArray(constant(10_000), 0, 1_000_000, REVERSED).one();
+        for (int i = 1; i < reversed.length; i++) {
+            assertTrue(reversed[i - 1] >= reversed[i]);
+        }
+
+        val nearly = intArray(constant(10_000), 0, 1_000_000, NEARLY_SORTED).one();
+        assertFalse(isSorted(nearly));
+        val copy = nearly.clone();
+        Arrays.sort(copy);
+        var displaced = 0;
+        for (int i = 0; i < copy.length; i++) {
+            if (copy[i] != nearly[i]) {
+                displaced++;
+            }
+        }
+        assertTrue(displaced <= 200);
+
+        val few = doubleArray(constant(10_000), 0, 1, FEW_UNIQUE).one();
+        assertTrue(Arrays.stream(few).distinct().count() <= 8);
+    }
+
+    @Test void chunkedFillsAreRepeatable() {
+        val rando = intArray(constant(PARALLEL_THRESHOLD + 12_345), 0, Integer.MAX_VALUE);
+        val first = rando.one();
+
+        ((SharedRandom) SharedRandom.current()).reseed(SharedRandomExtension.DEFAULT_KNOWN_SEED);
+        assertArrayEquals(first, rando.one());
+
+        // the chunks are seeded independently of each other
+        assertFalse(Arrays.equals(first, 0, CHUNK_SIZE, first, CHUNK_SIZE, 2 * CHUNK_SIZE));
+    }
+
+    private static boolean isSorted(final int[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
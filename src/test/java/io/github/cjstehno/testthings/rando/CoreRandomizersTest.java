@@ -21,18 +21,17 @@ import lombok.val;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.cjstehno.testthings.fixtures.PhoneticAlphabet.*;
 import static io.github.cjstehno.testthings.rando.CoreRandomizers.*;
+import static io.github.cjstehno.testthings.rando.NumberRandomizers.aLong;
 import static io.github.cjstehno.testthings.rando.NumberRandomizers.anIntBetween;
 import static io.github.cjstehno.testthings.rando.StringRandomizers.alphabetic;
 import static io.github.cjstehno.testthings.rando.StringRandomizers.number;
-import static org.junit.jupiter.api.Assertions.assertArrayEquals;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(SharedRandomExtension.class)
 class CoreRandomizersTest {
@@ -59,6 +58,68 @@ class CoreRandomizersTest {
         assertEquals(PhoneticAlphabet.GOLF, rando.one());
     }
 
+    @Test void weightedOneOfMap() {
+        val weights = new LinkedHashMap<String, Double>();
+        weights.put("alpha", 0.8);
+        weights.put("bravo", 0.2);
+        weights.put("charlie", 0d);
+
+        val counts = countValues(weightedOneOf(weights).many(10_000));
+        assertEquals(8_000, counts.get("alpha"), 300);
+        assertEquals(2_000, counts.get("bravo"), 300);
+        assertFalse(counts.containsKey("charlie"));
+    }
+
+    @Test void weightedOneOfMapOrder() {
+        val ordered = new LinkedHashMap<String, Integer>();
+        ordered.put("charlie", 3);
+        ordered.put("bravo", 2);
+        ordered.put("alpha", 1);
+
+        val unordered = new HashMap<>(Map.of("alpha", 1, "bravo", 2, "charlie", 3));
+
+        // the selections depend on the seed, but not the iteration order of the map
+        assertEquals(
+            SharedRandom.withSeed(8675309L, () -> weightedOneOf(ordered).many(20)),
+            SharedRandom.withSeed(8675309L, () -> weightedOneOf(unordered).many(20))
+        );
+
+        // options which are not comparable require an ordered map
+        assertThrows(IllegalArgumentException.class, () -> weightedOneOf(Map.of(new Object(), 1, new Object(), 2)));
+    }
+
+    @Test void weightedOneOfEnum() {
+        val weights = new double[PhoneticAlphabet.values().length];
+        weights[ALPHA.ordinal()] = 3;
+        weights[ZULU.ordinal()] = 1;
+
+        val counts = countValues(weightedOneOf(PhoneticAlphabet.class, weights).many(10_000));
+        assertEquals(2, counts.size());
+        assertEquals(7_500, counts.get(ALPHA), 300);
+        assertEquals(2_500, counts.get(ZULU), 300);
+    }
+
+    @Test void weightedOneOfManyOptions() {
+        val weights = new LinkedHashMap<Integer, Integer>();
+        for (int i = 0; i < 5_000; i++) {
+            weights.put(i, i % 2 == 0 ? 1 : 0);
+        }
+
+        assertTrue(weightedOneOf(weights).stream(10_000).allMatch(v -> v % 2 == 0));
+    }
+
+    @Test void weightedOneOfInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> weightedOneOf(Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> weightedOneOf(Map.of("a", 0, "b", 0)));
+        assertThrows(IllegalArgumentException.class, () -> weightedOneOf(Map.of("a", -1, "b", 2)));
+        assertThrows(IllegalArgumentException.class, () -> weightedOneOf(PhoneticAlphabet.class, 1, 2));
+    }
+
+    @Test @SuppressWarnings({"unchecked", "rawtypes"})
+    void oneOfNonEnum() {
+        assertThrows(IllegalArgumentException.class, () -> oneOf((Class) String.class));
+    }
+
     @Test void array() {
         val rando = arrayOf(anIntBetween(1, 3), oneOf(PhoneticAlphabet.class));
         assertArrayEquals(new PhoneticAlphabet[]{ROMEO}, rando.one());
@@ -66,6 +127,21 @@ class CoreRandomizersTest {
         assertArrayEquals(new PhoneticAlphabet[]{ALPHA, XRAY}, rando.one());
     }
 
+    @Test void typedArray() {
+        val rando = arrayOf(PhoneticAlphabet.class, anIntBetween(1, 3), oneOf(PhoneticAlphabet.class));
+        final PhoneticAlphabet[] array = rando.one();
+        assertEquals(PhoneticAlphabet[].class, array.getClass());
+        assertArrayEquals(new PhoneticAlphabet[]{ROMEO}, array);
+
+        assertThrows(IllegalArgumentException.class, () -> arrayOf(int.class, constant(3), anIntBetween(1, 10)));
+    }
+
+    @Test void intArray() {
+        val rando = intArrayOf(constant(3), anIntBetween(1, 100));
+        assertArrayEquals(new int[]{65, 37, 31}, rando.one());
+        assertArrayEquals(new int[]{31, 92, 54}, rando.one());
+    }
+
     @Test void constantValue() {
         assertValues(constant(42).many(3), 42, 42, 42);
     }
@@ -143,6 +219,137 @@ class CoreRandomizersTest {
         assertValues(onceEachOf(List.of("FIRST", "SECOND")).many(3), "FIRST", "SECOND", null);
     }
 
+    @Test void onceEachOfShuffles() {
+        val values = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            values.add(i);
+        }
+        val drained = onceEachOf(values).many(101);
+
+        // the same values as a Fisher-Yates shuffle, with the same draws
+        ((SharedRandom) SharedRandom.current()).reseed(SharedRandomExtension.DEFAULT_KNOWN_SEED);
+        val expected = new ArrayList<>(values);
+        for (int i = 0; i < expected.size(); i++) {
+            Collections.swap(expected, i, i + SharedRandom.current().nextInt(expected.size() - i));
+        }
+        expected.add(null);
+
+        assertEquals(expected, drained);
+    }
+
+    @Test void onceEachOfLargeCollection() {
+        val values = new ArrayList<Integer>();
+        for (int i = 0; i < 1_000_000; i++) {
+            values.add(i);
+        }
+
+        val rando = onceEachOf(values);
+        val drained = new HashSet<>(rando.many(1_000_000));
+        assertEquals(1_000_000, drained.size());
+        assertTrue(drained.containsAll(values));
+        assertNull(rando.one());
+    }
+
+    @Test void onceEachOfConcurrently() throws Exception {
+        val values = new ArrayList<Integer>();
+        for (int i = 0; i < 100_000; i++) {
+            values.add(i);
+        }
+
+        val rando = onceEachOf(values);
+        val drained = ConcurrentHashMap.<Integer>newKeySet();
+        val duplicates = new AtomicInteger();
+
+        val threads = new ArrayList<Thread>();
+        for (int t = 0; t < 8; t++) {
+            val thread = new Thread(() -> {
+                Integer value;
+                while ((value = rando.one()) != null) {
+                    if (!drained.add(value)) {
+                        duplicates.incrementAndGet();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (val thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, duplicates.get());
+        assertEquals(100_000, drained.size());
+    }
+
+    @Test void onceEachOfRange() {
+        val rando = onceEachOf(-500, 1_000_000);
+        val drained = new HashSet<Integer>();
+        for (int i = 0; i < 1_000_500; i++) {
+            val value = rando.oneInt();
+            assertTrue(value >= -500 && value < 1_000_000);
+            assertTrue(drained.add(value));
+        }
+
+        assertNull(rando.one());
+        assertThrows(NoSuchElementException.class, rando::oneInt);
+    }
+
+    @Test void onceEachOfRangeIsShuffled() {
+        val values = onceEachOf(0, 10).manyInts(10);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, Arrays.stream(values).sorted().toArray());
+        assertFalse(Arrays.equals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, values));
+
+        assertNull(onceEachOf(5, 5).one());
+    }
+
+    @Test void uniqueValues() {
+        val rando = unique(anIntBetween(0, 100));
+        assertEquals(100, new HashSet<>(rando.many(100)).size());
+        assertThrows(IllegalStateException.class, rando::one);
+    }
+
+    @Test void uniqueLargeValues() {
+        val values = unique(aLong()).many(1_000_000);
+        assertEquals(1_000_000, new HashSet<>(values).size());
+    }
+
+    @Test void uniqueStrings() {
+        val rando = unique(alphabetic(constant(2)), 10_000);
+        assertEquals(52 * 52, new HashSet<>(rando.many(52 * 52)).size());
+        assertThrows(IllegalStateException.class, rando::one);
+    }
+
+    @Test void uniqueMixedTypes() {
+        // equal numbers of different types are distinct values
+        final Randomizer<Object> rando = unique(onceEachOf(List.<Object>of(1, 1L, 1d, '1', "1", (short) 1)), 1);
+        assertEquals(6, rando.many(6).size());
+    }
+
+    @Test void uniqueOtherValues() {
+        val rando = unique(oneOf(PhoneticAlphabet.class));
+        assertEquals(EnumSet.allOf(PhoneticAlphabet.class), new HashSet<>(rando.many(26)));
+        assertThrows(IllegalStateException.class, rando::one);
+    }
+
+    @Test void distinctListOfValues() {
+        val lists = distinctListOf(constant(50), anIntBetween(0, 50)).many(3);
+        for (val list : lists) {
+            assertEquals(50, list.size());
+            assertEquals(50, new HashSet<>(list).size());
+        }
+        assertThrows(IllegalStateException.class, () -> distinctListOf(constant(51), anIntBetween(0, 50)).one());
+    }
+
+    @Test void distinctSetOfValues() {
+        assertEquals(90, distinctSetOf(constant(90), anIntBetween(0, 100)).one().size());
+    }
+
+    private static <V> Map<V, Integer> countValues(final List<V> values) {
+        val counts = new HashMap<V, Integer>();
+        values.forEach(v -> counts.merge(v, 1, Integer::sum));
+        return counts;
+    }
+
     private static <V> void assertValues(final List<V> actual, final V... expected) {
         assertEquals(expected.length, actual.size());
         for (int i = 0; i < expected.length; i++) {
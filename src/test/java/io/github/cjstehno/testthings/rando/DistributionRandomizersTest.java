@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.constant;
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.listOf;
+import static io.github.cjstehno.testthings.rando.DistributionRandomizers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class DistributionRandomizersTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test void gaussian() {
+        val values = aGaussian(100, 15).manyDoubles(SAMPLES);
+        assertEquals(100, mean(values), 0.5);
+        assertEquals(15, stddev(values), 0.5);
+    }
+
+    @Test void exponential() {
+        val values = anExponential(250).manyDoubles(SAMPLES);
+        assertEquals(250, mean(values), 5);
+        assertTrue(Arrays.stream(values).allMatch(v -> v >= 0));
+    }
+
+    @Test void logNormal() {
+        val values = aLogNormal(1, 0.5).manyDoubles(SAMPLES);
+        assertEquals(Math.exp(1 + 0.125), mean(values), 0.05);
+        assertTrue(Arrays.stream(values).allMatch(v -> v > 0));
+    }
+
+    @Test void pareto() {
+        val values = aPareto(2, 3).manyDoubles(SAMPLES);
+        assertEquals(3, mean(values), 0.1);
+        assertTrue(Arrays.stream(values).allMatch(v -> v >= 2));
+    }
+
+    @Test void poisson() {
+        for (val mean : new double[]{0.5, 4, 10, 75, 5_000}) {
+            val values = Arrays.stream(aPoisson(mean).manyInts(SAMPLES)).asDoubleStream().toArray();
+            assertEquals(mean, mean(values), Math.max(0.05, mean * 0.01));
+            assertEquals(Math.sqrt(mean), stddev(values), Math.max(0.05, Math.sqrt(mean) * 0.03));
+        }
+    }
+
+    @Test void zipf() {
+        val values = aZipf(1_000, 1).manyInts(SAMPLES);
+        assertTrue(Arrays.stream(values).allMatch(v -> v >= 1 && v <= 1_000));
+
+        // the probability of rank 1 is 1/H(1000) and of rank 2 is half that
+        val harmonic = harmonic(1_000, 1);
+        assertEquals(SAMPLES / harmonic, count(values, 1), SAMPLES * 0.01);
+        assertEquals(SAMPLES / harmonic / 2, count(values, 2), SAMPLES * 0.01);
+    }
+
+    @Test void zipfLargeCount() {
+        val values = aZipf(10_000_000, 1.2).manyInts(SAMPLES);
+        assertTrue(Arrays.stream(values).allMatch(v -> v >= 1 && v <= 10_000_000));
+        assertEquals(SAMPLES / harmonic(10_000_000, 1.2), count(values, 1), SAMPLES * 0.01);
+    }
+
+    @Test void zipfOptions() {
+        val values = listOf(constant(SAMPLES), zipfOneOf(2, "hot", "warm", "cold")).one();
+        val hot = values.stream().filter("hot"::equals).count();
+        assertEquals(SAMPLES / harmonic(3, 2), hot, SAMPLES * 0.01);
+    }
+
+    @Test void discrete() {
+        val values = aDiscrete(1, 0, 3).manyInts(SAMPLES);
+        assertEquals(0, count(values, 1));
+        assertEquals(SAMPLES * 0.25, count(values, 0), SAMPLES * 0.01);
+        assertEquals(SAMPLES * 0.75, count(values, 2), SAMPLES * 0.01);
+    }
+
+    @Test void repeatable() {
+        val first = aZipf(100, 1.1).manyInts(10);
+        ((SharedRandom) SharedRandom.current()).reseed(SharedRandomExtension.DEFAULT_KNOWN_SEED);
+        assertArrayEquals(first, aZipf(100, 1.1).manyInts(10));
+    }
+
+    @Test void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> aGaussian(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> anExponential(0));
+        assertThrows(IllegalArgumentException.class, () -> aPareto(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> aPoisson(-1));
+        assertThrows(IllegalArgumentException.class, () -> aZipf(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> aZipf(10, 0));
+    }
+
+    private static double harmonic(final int n, final double exponent) {
+        var sum = 0d;
+        for (int k = 1; k <= n; k++) {
+            sum += 1d / Math.pow(k, exponent);
+        }
+        return sum;
+    }
+
+    private static long count(final int[] values, final int target) {
+        return Arrays.stream(values).filter(v -> v == target).count();
+    }
+
+    private static double mean(final double[] values) {
+        return Arrays.stream(values).average().orElseThrow();
+    }
+
+    private static double stddev(final double[] values) {
+        val mean = mean(values);
+        return Math.sqrt(Arrays.stream(values).map(v -> (v - mean) * (v - mean)).sum() / values.length);
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.github.cjstehno.testthings.rando.IdentifierRandomizers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class IdentifierRandomizersTest {
+
+    private static final long NOW = 1_665_000_000_000L;
+
+    @Test void uuids() {
+        val uuids = aUuid().many(10_000);
+        assertEquals(10_000, new HashSet<>(uuids).size());
+        uuids.forEach(uuid -> {
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+        });
+
+        // the uuids are valid when parsed
+        assertEquals(uuids.get(0), UUID.fromString(uuids.get(0).toString()));
+    }
+
+    @Test void repeatableUuids() {
+        assertEquals(UUID.fromString("5a8a35f6-8799-4523-90ca-7c5b29b308c1"), aUuid().one());
+    }
+
+    @Test void bulkUuids() {
+        val pairs = fillUuids(new long[20]);
+        for (int i = 0; i < pairs.length; i += 2) {
+            val uuid = new UUID(pairs[i], pairs[i + 1]);
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> fillUuids(new long[3]));
+    }
+
+    @Test void uuidV7() {
+        val clock = new AtomicLong(NOW);
+        val rando = aUuidV7(clock::getAndIncrement);
+
+        UUID previous = null;
+        for (val uuid : rando.many(100)) {
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            if (previous != null) {
+                assertTrue(uuid.compareTo(previous) > 0);
+            }
+            previous = uuid;
+        }
+
+        assertEquals(NOW, aUuidV7(() -> NOW).one().getMostSignificantBits() >>> 16);
+    }
+
+    @Test void ulids() {
+        val clock = new AtomicLong(NOW);
+        val ulids = aUlid(clock::getAndIncrement).many(100);
+
+        for (int i = 0; i < ulids.size(); i++) {
+            assertTrue(ulids.get(i).matches("[0-9A-HJKMNP-TV-Z]{26}"));
+            if (i > 0) {
+                assertTrue(ulids.get(i).compareTo(ulids.get(i - 1)) > 0);
+            }
+        }
+
+        // the crockford base32 encoding of the timestamp
+        assertEquals("01GEMVQJG0", aUlid(() -> NOW).one().substring(0, 10));
+    }
+
+    @Test void snowflakes() {
+        val epoch = 1_288_834_974_657L;
+        val id = aSnowflakeId(() -> NOW, epoch, 513).oneLong();
+        assertEquals(NOW - epoch, id >>> 22);
+        assertEquals(513, (id >>> 12) & 0x3FF);
+
+        val ids = aSnowflakeId(() -> NOW, epoch).manyLongs(100);
+        for (val other : ids) {
+            assertEquals(NOW - epoch, other >>> 22);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> aSnowflakeId(() -> NOW, epoch, 1024));
+    }
+}
@@ -36,6 +36,7 @@ import static io.github.cjstehno.testthings.rando.NumberRandomizers.aFloatBetwee
 import static io.github.cjstehno.testthings.rando.NumberRandomizers.aLong;
 import static io.github.cjstehno.testthings.rando.NumberRandomizers.aLongBetween;
 import static io.github.cjstehno.testthings.rando.NumberRandomizers.aShort;
+import static io.github.cjstehno.testthings.rando.NumberRandomizers.anIntBetween;
 import static io.github.cjstehno.testthings.rando.NumberRandomizers.anInt;
 import static io.github.cjstehno.testthings.rando.NumberRandomizers.byteArray;
 import static org.junit.jupiter.api.Assertions.*;
@@ -99,6 +100,27 @@ public class NumberRandomizersTest {
         assertArrayEquals(new byte[]{-58,-121,122}, actuals.get(2));
     }
 
+    @Test void primitiveInts() {
+        assertArrayEquals(new int[]{1519007222, 281705563, 716866189}, anInt().manyInts(3));
+    }
+
+    @Test void primitiveIntsBetween() {
+        val rando = anIntBetween(1, 100);
+        assertEquals(65, rando.oneInt());
+        assertArrayEquals(new int[]{37, 31}, rando.manyInts(2));
+    }
+
+    @Test void primitiveLongsBetween() {
+        assertArrayEquals(new long[]{507L, 204L, 803L}, aLongBetween(10, 1000).manyLongs(3));
+    }
+
+    @Test void primitiveDoublesBetween() {
+        assertArrayEquals(
+            new double[]{0.5884178573341157d, 0.5163974218980227d, 0.541727104060437d},
+            aDoubleBetween(0.5d, 0.75d).manyDoubles(3)
+        );
+    }
+
     private static <V> void assertValues(final List<V> actual, final V... expected) {
         assertEquals(expected.length, actual.size());
         assertTrue(actual.containsAll(Arrays.asList(expected)));
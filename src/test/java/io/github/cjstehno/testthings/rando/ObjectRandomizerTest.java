@@ -15,16 +15,24 @@
  */
 package io.github.cjstehno.testthings.rando;
 
+import io.github.cjstehno.testthings.fixtures.ColorName;
 import io.github.cjstehno.testthings.junit.SharedRandomExtension;
 import lombok.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
 import static io.github.cjstehno.testthings.rando.CoreRandomizers.constant;
 import static io.github.cjstehno.testthings.rando.NumberRandomizers.anInt;
+import static io.github.cjstehno.testthings.rando.NumberRandomizers.anIntBetween;
+import static io.github.cjstehno.testthings.rando.ObjectRandomizers.forType;
+import static io.github.cjstehno.testthings.rando.ObjectRandomizers.graphOf;
 import static io.github.cjstehno.testthings.rando.ObjectRandomizers.randomized;
 import static io.github.cjstehno.testthings.rando.StringRandomizers.alphanumeric;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(SharedRandomExtension.class)
 class ObjectRandomizerTest {
@@ -63,6 +71,132 @@ class ObjectRandomizerTest {
         );
     }
 
+    @Test void typeDrivenObject() {
+        val rando = forType(LowerLevel.class);
+        val first = rando.one();
+
+        for (val value : new String[]{first.getAlpha(), first.getCharlie(), first.getEcho()}) {
+            assertTrue(value.length() >= 5 && value.length() < 16);
+        }
+        assertNotEquals(first, rando.one());
+
+        reseed();
+        assertEquals(first, forType(LowerLevel.class).one());
+    }
+
+    @Test void typeDrivenObjectWithOverrides() {
+        val rando = forType(LowerLevel.class, cfg -> cfg
+            .type(String.class, constant("text"))
+            .field("echo", constant("echo"))
+            .field("bravo", anIntBetween(10, 20))
+            .ignore("foxtrot")
+        );
+
+        for (val value : rando.many(10)) {
+            assertEquals("text", value.getAlpha());
+            assertEquals("text", value.getCharlie());
+            assertEquals("echo", value.getEcho());
+            assertTrue(value.getBravo() >= 10 && value.getBravo() < 20);
+            assertEquals(0, value.getFoxtrot());
+        }
+    }
+
+    @Test void typeDrivenRecord() {
+        val rando = forType(Item.class, cfg -> cfg.field("quantity", anIntBetween(1, 10)));
+        val first = rando.one();
+
+        assertNotNull(first.name());
+        assertNotNull(first.color());
+        assertTrue(first.quantity() >= 1 && first.quantity() < 10);
+        assertNull(first.related());
+
+        reseed();
+        assertEquals(first, forType(Item.class, cfg -> cfg.field("quantity", anIntBetween(1, 10))).one());
+    }
+
+    @Test void typeDrivenUnsupported() {
+        assertThrows(IllegalArgumentException.class, () -> forType(NoDefaultConstructor.class));
+        assertThrows(IllegalArgumentException.class, () -> forType(Runnable.class));
+    }
+
+    @Test void graphOfObjects() {
+        val order = graphOf(Order.class, cfg -> cfg.fanOut(constant(3))).one();
+
+        assertNotNull(order.getId());
+        assertNotNull(order.getCustomer().getName());
+        assertEquals(3, order.getTags().size());
+        assertEquals(3, order.getLines().size());
+        for (val line : order.getLines()) {
+            assertNotNull(line.getProduct().name());
+            assertNotNull(line.getProduct().price());
+            assertNotNull(line.getProduct().color());
+        }
+
+        // the nested customer is at the max depth (3), so its nested values are not populated
+        val customer = order.getCustomer().getLastOrder().getCustomer();
+        assertNotNull(customer.getName());
+        assertNull(customer.getLastOrder());
+    }
+
+    @Test void graphDepth() {
+        val order = graphOf(Order.class, cfg -> cfg.maxDepth(1)).one();
+        assertNotNull(order.getCustomer());
+        assertNull(order.getCustomer().getLastOrder());
+        assertTrue(order.getLines().stream().allMatch(line -> line.getProduct() == null));
+
+        val shallow = graphOf(Order.class, cfg -> cfg.maxDepth(0)).one();
+        assertNull(shallow.getCustomer());
+        assertTrue(shallow.getLines().isEmpty());
+    }
+
+    @Test void graphReuseAndCycles() {
+        val order = graphOf(Order.class, cfg -> cfg.reuse(1)).one();
+
+        // with certain reuse, the customer's last order is the root order
+        assertSame(order, order.getCustomer().getLastOrder());
+    }
+
+    @Test void graphOverridesAndLeafPool() {
+        val rando = graphOf(Order.class, cfg -> {
+            cfg.leafPool(2);
+            cfg.fanOut(constant(10));
+            cfg.field("quantity", constant(7));
+            cfg.ignore("tags");
+        });
+
+        val order = rando.one();
+        assertNull(order.getTags());
+        assertTrue(order.getLines().stream().allMatch(line -> line.getQuantity() == 7));
+
+        // at most two distinct (shared) product names
+        assertTrue(order.getLines().stream().map(line -> line.getProduct().name()).distinct().count() <= 2);
+
+        // configured randomizers are never pooled
+        val configured = graphOf(Order.class, cfg -> {
+            cfg.leafPool(2);
+            cfg.fanOut(constant(10));
+            cfg.field("name", CoreRandomizers.unique(alphanumeric(constant(12))));
+        }).one();
+        assertEquals(10, configured.getLines().stream().map(line -> line.getProduct().name()).distinct().count());
+
+        reseed();
+        val first = graphOf(Order.class).one();
+        reseed();
+        assertEquals(first.getId(), graphOf(Order.class).one().getId());
+    }
+
+    private static void reseed() {
+        ((SharedRandom) SharedRandom.current()).reseed(SharedRandomExtension.DEFAULT_KNOWN_SEED);
+    }
+
+    private record Item(String name, ColorName color, int quantity, double price, Object related) {
+    }
+
+    @RequiredArgsConstructor
+    private static class NoDefaultConstructor {
+        private final String value;
+    }
+
     @NoArgsConstructor @AllArgsConstructor @EqualsAndHashCode @ToString @Getter @Setter
     private static class TopLevel {
         private String alpha;
@@ -92,4 +226,27 @@ class ObjectRandomizerTest {
             this.foxtrot = foxtrot;
         }
     }
-}
\ No newline at end of file
+
+    @Getter @Setter
+    private static class Order {
+        private String id;
+        private Customer customer;
+        private List<Line> lines;
+        private Set<String> tags;
+    }
+
+    @Getter @Setter
+    private static class Customer {
+        private String name;
+        private Order lastOrder;
+    }
+
+    @Getter @Setter
+    private static class Line {
+        private Product product;
+        private int quantity;
+    }
+
+    private record Product(String name, BigDecimal price, ColorName color) {
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.github.cjstehno.testthings.rando.NumberRandomizers.anIntBetween;
+import static io.github.cjstehno.testthings.rando.SharedRandom.deriveSeed;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class RandomContextTest {
+
+    @Test void deterministicTasks() throws Exception {
+        val single = generate(RandomContext.of(8675309L).executor(Executors.newSingleThreadExecutor()));
+        val pooled = generate(RandomContext.of(8675309L).executor(Executors.newFixedThreadPool(8)));
+        val other = generate(RandomContext.of(42L).executor(Executors.newFixedThreadPool(8)));
+
+        assertEquals(single, pooled);
+        assertNotEquals(single, other);
+
+        // each task has its own values
+        assertNotEquals(single.get(0), single.get(1));
+    }
+
+    @Test void forkedFromCurrent() throws Exception {
+        val first = RandomContext.fork();
+        assertEquals(3262043171576392338L, first.getRootSeed());
+        assertNotEquals(first.getRootSeed(), RandomContext.fork().getRootSeed());
+    }
+
+    @Test void wrappedTasksRestoreGenerator() throws Exception {
+        val current = SharedRandom.current();
+        val context = RandomContext.of(8675309L);
+
+        final Callable<int[]> task = () -> anIntBetween(0, 1000).manyInts(3);
+        val first = context.wrap(task).call();
+        val second = context.wrap(task).call();
+
+        assertSame(current, SharedRandom.current());
+        assertFalse(Arrays.equals(first, second));
+        assertArrayEquals(first, RandomContext.of(8675309L).wrap(task).call());
+
+        final Runnable runnable = () -> assertNotSame(current, SharedRandom.current());
+        context.wrap(runnable).run();
+        assertSame(current, SharedRandom.current());
+    }
+
+    @Test void tasksCreateNoThreadGenerator() throws Exception {
+        val context = RandomContext.of(8675309L);
+        val inTask = new AtomicReference<SharedRandom>();
+        val afterTask = new AtomicReference<SharedRandom>(SharedRandom.generator(1L));
+
+        // the test thread generator is not inheritable, so the new thread starts without a generator
+        val thread = new Thread(() -> {
+            context.wrap(() -> {
+                inTask.set(SharedRandom.peek());
+                anIntBetween(0, 1000).oneInt();
+            }).run();
+            afterTask.set(SharedRandom.peek());
+        });
+        thread.start();
+        thread.join();
+
+        // only the task generator was created, and it was unbound once the task completed
+        assertEquals(deriveSeed(8675309L, 0), inTask.get().getSeed());
+        assertNull(afterTask.get());
+    }
+
+    private static List<List<Integer>> generate(final ExecutorService executor) throws Exception {
+        try {
+            val futures = new ArrayList<Future<List<Integer>>>();
+            for (int t = 0; t < 20; t++) {
+                futures.add(executor.submit(() -> anIntBetween(0, 1_000_000).many(5)));
+            }
+
+            val results = new ArrayList<List<Integer>>();
+            for (val future : futures) {
+                results.add(future.get());
+            }
+            return results;
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static io.github.cjstehno.testthings.junit.SharedRandomExtension.DEFAULT_KNOWN_SEED;
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.constant;
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.listOf;
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.onceEachOf;
+import static io.github.cjstehno.testthings.rando.NumberRandomizers.anIntBetween;
+import static io.github.cjstehno.testthings.rando.StringRandomizers.alphanumeric;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SharedRandomExtension.class)
+class RandomTapeTest {
+
+    @TempDir Path tempDir;
+
+    @Test void recordAndReplay() throws Exception {
+        val tapeFile = tempDir.resolve("values.tape");
+        val rando = listOf(anIntBetween(10, 20), alphanumeric(anIntBetween(5, 10)));
+
+        final List<String> recorded;
+        try (val tape = RandomTape.record(tapeFile)) {
+            recorded = rando.one();
+            assertEquals(DEFAULT_KNOWN_SEED, tape.getSeed());
+        }
+
+        // the replay does not depend on the current seed
+        SharedRandom.shared().reseed(8675309L);
+
+        try (val tape = RandomTape.replay(tapeFile)) {
+            assertEquals(recorded, rando.one());
+            assertEquals(DEFAULT_KNOWN_SEED, tape.getSeed());
+            assertThrows(IllegalStateException.class, () -> anIntBetween(1, 100).one());
+        }
+
+        // the generator is restored once closed
+        assertNotEquals(recorded, rando.one());
+    }
+
+    @Test void largeTape() throws Exception {
+        val tapeFile = tempDir.resolve("large.tape");
+        val rando = anIntBetween(0, 1_000_000);
+
+        final int[] recorded;
+        final long count;
+        try (val tape = RandomTape.record(tapeFile)) {
+            recorded = rando.manyInts(100_000);
+            count = tape.getCount();
+        }
+
+        // bounded values may draw more than one raw value
+        assertTrue(count >= 100_000);
+        assertEquals(16 + count * Long.BYTES, Files.size(tapeFile));
+
+        try (val tape = RandomTape.replay(tapeFile)) {
+            for (val value : recorded) {
+                assertEquals(value, rando.oneInt());
+            }
+            assertEquals(count, tape.getCount());
+        }
+    }
+
+    @Test void recordAndReplayValues() throws Exception {
+        val tapeFile = tempDir.resolve("values.bin");
+        val rando = listOf(anIntBetween(10, 20), alphanumeric(anIntBetween(5, 10)));
+
+        final ValueTape.Codec<List<String>> codec = new ValueTape.Codec<>() {
+            @Override public byte[] encode(final List<String> value) {
+                return String.join(",", value).getBytes(UTF_8);
+            }
+
+            @Override public List<String> decode(final byte[] bytes) {
+                return List.of(new String(bytes, UTF_8).split(","));
+            }
+        };
+
+        final List<List<String>> recorded;
+        try (val tape = ValueTape.recorded(rando, tapeFile, codec)) {
+            recorded = tape.many(5);
+            assertEquals(5, tape.getCount());
+        }
+
+        // the replay depends on neither the generator, nor the order in which values are drawn
+        SharedRandom.shared().reseed(8675309L);
+        try (val tape = ValueTape.replayed(tapeFile, codec)) {
+            anIntBetween(1, 100).one();
+            assertEquals(recorded, tape.many(5));
+            assertThrows(IllegalStateException.class, tape::one);
+        }
+    }
+
+    @Test void recordAndReplaySupportedValues() throws Exception {
+        val tapeFile = tempDir.resolve("supported.bin");
+        val values = Arrays.<Object>asList(true, (byte) 7, (short) 300, 'x', 42, 8675309L, 1.5f, 2.25d, "h\u00e9llo", UUID.randomUUID(), null);
+        val rando = onceEachOf(values);
+
+        final List<Object> recorded;
+        try (val tape = ValueTape.recorded(rando, tapeFile)) {
+            recorded = tape.many(values.size());
+        }
+
+        try (val tape = ValueTape.replayed(tapeFile)) {
+            assertEquals(recorded, tape.many(values.size()));
+            assertThrows(IllegalStateException.class, tape::one);
+        }
+
+        // other types require a codec
+        try (val tape = ValueTape.recorded(constant(List.of("a")), tempDir.resolve("unsupported.bin"))) {
+            assertThrows(IllegalArgumentException.class, tape::one);
+        }
+    }
+
+    @Test void invalidTape() throws Exception {
+        val tapeFile = Files.writeString(tempDir.resolve("invalid.tape"), "this is not a random tape");
+        assertThrows(IllegalArgumentException.class, () -> RandomTape.replay(tapeFile));
+        assertThrows(IllegalArgumentException.class, () -> ValueTape.replayed(tapeFile));
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.constant;
+import static io.github.cjstehno.testthings.rando.CoreRandomizers.oneOf;
+import static io.github.cjstehno.testthings.rando.NumberRandomizers.anIntBetween;
+import static io.github.cjstehno.testthings.rando.StringRandomizers.alphabetic;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SharedRandomExtension.class)
+class RandomizerTest {
+
+    @Test void streamOfCount() {
+        assertEquals(List.of(65, 37, 31), anIntBetween(1, 100).stream(3).toList());
+    }
+
+    @Test void streamIsLazy() {
+        val counter = new AtomicInteger();
+        Randomizer<Integer> rando = counter::incrementAndGet;
+
+        assertEquals(1, rando.stream(50_000_000).findFirst().orElseThrow());
+        assertEquals(1, counter.get());
+    }
+
+    @Test void unboundedStream() {
+        val counter = new AtomicInteger();
+        Randomizer<Integer> rando = counter::incrementAndGet;
+
+        assertEquals(List.of(1, 2, 3, 4), rando.stream().limit(4).toList());
+        assertEquals(4, counter.get());
+    }
+
+    @Test void primitiveStreams() {
+        assertArrayEquals(new int[]{65, 37, 31}, anIntBetween(1, 100).ints(3).toArray());
+    }
+
+    @Test void parallelStreamIsDeterministic() throws Exception {
+        val rando = anIntBetween(0, 1_000_000);
+        val expected = rando.parallelStream(100_000, 8675309L).sequential().toList();
+        assertEquals(100_000, expected.size());
+
+        for (val parallelism : new int[]{1, 3, 8}) {
+            val pool = new ForkJoinPool(parallelism);
+            try {
+                assertEquals(expected, pool.submit(() -> rando.parallelStream(100_000, 8675309L).toList()).get());
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        assertNotEquals(expected, rando.parallelStream(100_000, 42L).toList());
+    }
+
+    @Test void parallelStreamShortCircuits() {
+        val rando = anIntBetween(0, 1_000_000);
+        val expected = rando.parallelStream(5_000, 8675309L).toList();
+
+        assertEquals(expected.subList(0, 2_500), rando.parallelStream(5_000, 8675309L).limit(2_500).toList());
+        assertEquals(expected.get(0), rando.parallelStream(5_000, 8675309L).findFirst().orElseThrow());
+    }
+
+    @Test void parallelStreamSeededByCurrent() {
+        val rando = anIntBetween(0, 1_000_000);
+        val first = rando.parallelStream(2_000).toList();
+
+        ((SharedRandom) SharedRandom.current()).reseed(SharedRandomExtension.DEFAULT_KNOWN_SEED);
+        assertEquals(first, rando.parallelStream(2_000).toList());
+    }
+
+    @Test void filledArray() {
+        val rando = anIntBetween(1, 100);
+        val buffer = new Integer[3];
+        assertSame(buffer, rando.fill(buffer));
+        assertArrayEquals(new Integer[]{65, 37, 31}, buffer);
+
+        assertArrayEquals(new Integer[]{65, 31, 92, 31}, rando.fill(new Integer[]{65, null, null, 31}, 1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> rando.fill(buffer, 2, 4));
+    }
+
+    @Test void addedTo() {
+        val values = new ArrayList<Number>(List.of(0L));
+        assertSame(values, anIntBetween(1, 100).addTo(values, 3));
+        assertEquals(List.of(0L, 65, 37, 31), values);
+    }
+
+    @Test void mapped() {
+        assertEquals(List.of("65", "37", "31"), anIntBetween(1, 100).map(String::valueOf).many(3));
+    }
+
+    @Test void mappedChainsAreFused() {
+        val source = anIntBetween(1, 100);
+        final Randomizer<String> rando = source.map(v -> v * 2).map(v -> v + 1).map(String::valueOf);
+        assertEquals(MappedRandomizer.class, rando.getClass());
+        assertEquals(List.of("131", "75", "63"), rando.many(3));
+    }
+
+    @Test void filtered() {
+        val rando = anIntBetween(1, 100).filter(v -> v % 2 == 0);
+        assertTrue(rando.many(100).stream().allMatch(v -> v % 2 == 0));
+        assertEquals(100, rando.getAccepted());
+        assertTrue(rando.getAttempted() > 100);
+        assertTrue(rando.getAcceptanceRate() > 0.3 && rando.getAcceptanceRate() < 0.7);
+    }
+
+    @Test void filterBudgetExhausted() {
+        val rando = anIntBetween(1, 100).filter(v -> v > 1000, 50);
+        val thrown = assertThrows(IllegalStateException.class, rando::one);
+        assertTrue(thrown.getMessage().contains("50 attempts"));
+        assertEquals(50, rando.getAttempted());
+        assertEquals(0d, rando.getAcceptanceRate());
+
+        assertThrows(IllegalArgumentException.class, () -> anIntBetween(1, 100).filter(v -> true, 0));
+    }
+
+    @Test void zipped() {
+        val rando = anIntBetween(1, 100).zip(alphabetic(constant(3)), (n, s) -> s + n);
+        assertEquals(List.of("RLG65", "MMT63"), rando.many(2));
+    }
+
+    @Test void flatMapped() {
+        val rando = oneOf(1, 3).flatMap(n -> alphabetic(constant(n)));
+        assertTrue(rando.many(20).stream().allMatch(s -> s.length() == 1 || s.length() == 3));
+    }
+
+    @Test void withProbability() {
+        assertTrue(anIntBetween(1, 100).withProbability(1).many(20).stream().allMatch(v -> v >= 1));
+        assertNull(anIntBetween(1, 100).withProbability(0).one());
+        assertTrue(anIntBetween(1, 100).withProbability(0, constant(-1)).many(20).stream().allMatch(v -> v == -1));
+
+        val counts = anIntBetween(1, 100).withProbability(0.25).many(1000).stream().filter(v -> v != null).count();
+        assertTrue(counts > 150 && counts < 350);
+
+        assertThrows(IllegalArgumentException.class, () -> constant(1).withProbability(1.5));
+    }
+}
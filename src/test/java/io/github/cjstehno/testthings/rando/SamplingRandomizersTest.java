@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static io.github.cjstehno.testthings.rando.SamplingRandomizers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class SamplingRandomizersTest {
+
+    @TempDir Path tempDir;
+
+    @Test void sampling() {
+        val values = sample(10, LongStream.range(0, 1_000_000).boxed());
+        assertEquals(10, values.size());
+        assertEquals(10, new HashSet<>(values).size());
+        assertTrue(values.stream().allMatch(v -> v >= 0 && v < 1_000_000));
+
+        assertEquals(List.of(1, 2, 3), sample(10, List.of(1, 2, 3).iterator()));
+        assertEquals(List.of(), sample(0, List.of(1, 2, 3).iterator()));
+        assertThrows(IllegalArgumentException.class, () -> sample(-1, List.of(1).iterator()));
+    }
+
+    @Test void uniformSampling() {
+        val counts = new int[10];
+        val rando = sampleOf(2, () -> IntStream.range(0, 10).boxed());
+        for (int s = 0; s < 20_000; s++) {
+            rando.one().forEach(v -> counts[v]++);
+        }
+
+        // each value is in the sample ~20% of the time
+        for (val count : counts) {
+            assertEquals(4_000, count, 250);
+        }
+    }
+
+    @Test void repeatable() {
+        val rando = sampleOf(5, () -> IntStream.range(0, 100_000).boxed());
+        assertEquals(List.of(70784, 15109, 55486, 2339, 38421), rando.one());
+    }
+
+    @Test void fileLines() throws Exception {
+        val file = tempDir.resolve("lines.txt");
+        Files.write(file, IntStream.range(0, 10_000).mapToObj(i -> "line-" + i).toList());
+
+        val lines = linesSampleOf(25, file).one();
+        assertEquals(25, lines.size());
+        assertEquals(25, new HashSet<>(lines).size());
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("line-")));
+    }
+
+    @Test void weightedSampling() {
+        val counts = new int[4];
+        val rando = weightedSampleOf(1, () -> IntStream.range(0, 4).boxed(), i -> i);
+        for (int s = 0; s < 30_000; s++) {
+            counts[rando.one().get(0)]++;
+        }
+
+        // zero weight is never sampled, others are proportional to weight (1:2:3)
+        assertEquals(0, counts[0]);
+        assertEquals(5_000, counts[1], 300);
+        assertEquals(10_000, counts[2], 300);
+        assertEquals(15_000, counts[3], 300);
+    }
+
+    @Test void weightedLargeSample() {
+        val values = weightedSample(100, LongStream.range(0, 1_000_000).boxed(), v -> v % 2 == 0 ? 1 : 0);
+        assertEquals(100, values.size());
+        assertEquals(100, new HashSet<>(values).size());
+        assertTrue(values.stream().allMatch(v -> v % 2 == 0));
+
+        assertThrows(IllegalArgumentException.class, () -> weightedSample(1, List.of(1).iterator(), v -> -1));
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+
+import static io.github.cjstehno.testthings.rando.SequenceRandomizers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class SequenceRandomizersTest {
+
+    @Test void increasingValues() {
+        val rando = increasing(1000L, 1, 10);
+        assertArrayEquals(new long[]{1000L, 1003L, 1009L}, rando.longs(3).toArray());
+
+        val batch = rando.fillLongs(new long[10_000]);
+        for (int i = 1; i < batch.length; i++) {
+            assertTrue(batch[i] > batch[i - 1]);
+            assertTrue(batch[i] - batch[i - 1] < 10);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> increasing(0L, 0, 10));
+        assertThrows(IllegalStateException.class, () -> increasing(0L, () -> 0L).oneLong());
+    }
+
+    @Test void poissonArrivalTimestamps() {
+        val values = poissonArrivals(1_000_000L, 250d).manyLongs(10_000);
+        assertEquals(1_000_000L, values[0]);
+        for (int i = 1; i < values.length; i++) {
+            assertTrue(values[i] >= values[i - 1]);
+        }
+
+        // the mean interval should be close to the configured mean
+        val mean = (values[values.length - 1] - values[0]) / (double) (values.length - 1);
+        assertEquals(250d, mean, 15d);
+
+        assertThrows(IllegalArgumentException.class, () -> poissonArrivals(0L, 0d));
+    }
+
+    @Test void randomWalkValues() {
+        val values = randomWalk(100d, 1d).doubles(1000).toArray();
+        assertEquals(100d, values[0]);
+        assertTrue(Arrays.stream(values).allMatch(Double::isFinite));
+
+        // the steps are bounded by the standard deviation (with overwhelming likelihood)
+        for (int i = 1; i < values.length; i++) {
+            assertTrue(Math.abs(values[i] - values[i - 1]) < 6d);
+        }
+
+        assertArrayEquals(new double[]{5d, 5d, 5d}, randomWalk(5d, 0d).manyDoubles(3));
+    }
+
+    @Test void periodicSignal() {
+        assertArrayEquals(new double[]{10d, 12d, 10d, 8d, 10d}, periodic(10d, 2d, 4d, 0d).manyDoubles(5), 1e-9);
+
+        val noisy = periodic(10d, 2d, 24d, 0.5).fillDoubles(new double[24 * 100]);
+        assertEquals(10d, Arrays.stream(noisy).average().orElseThrow(), 0.1);
+
+        assertThrows(IllegalArgumentException.class, () -> periodic(0d, 1d, 0d, 0d));
+    }
+}
@@ -18,11 +18,18 @@ package io.github.cjstehno.testthings.rando;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
+import static io.github.cjstehno.testthings.rando.SharedRandom.ALGORITHM_PROPERTY;
+import static io.github.cjstehno.testthings.rando.SharedRandom.DEFAULT_ALGORITHM;
 import static io.github.cjstehno.testthings.rando.SharedRandom.SEED_PROPERTY;
 import static io.github.cjstehno.testthings.rando.SharedRandom.generator;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SharedRandomTest {
 
@@ -56,6 +63,76 @@ class SharedRandomTest {
         System.setProperty(SEED_PROPERTY, "");
     }
 
+    @Test void algorithms() {
+        val r0 = generator(8675309L, "L64X128MixRandom");
+        assertEquals("L64X128MixRandom", r0.getAlgorithm());
+
+        val g0 = genX(r0, 20);
+        assertArrayEquals(g0, genX(generator(8675309L, "L64X128MixRandom"), 20));
+        assertArraysNotEqual(g0, genX(generator(8675309L, "Xoshiro256PlusPlus"), 20));
+
+        r0.reseed(8675309L);
+        assertEquals("L64X128MixRandom", r0.getAlgorithm());
+        assertArrayEquals(g0, genX(r0, 20));
+    }
+
+    @Test void defaultAlgorithm() {
+        val r = generator(8675309L);
+        assertEquals(DEFAULT_ALGORITHM, r.getAlgorithm());
+        assertEquals(new Random(8675309L).nextLong(), r.nextLong());
+    }
+
+    @Test void algorithmPropertyConfig() {
+        System.setProperty(ALGORITHM_PROPERTY, "Xoshiro256PlusPlus");
+
+        assertEquals("Xoshiro256PlusPlus", generator(8675309L).getAlgorithm());
+        assertEquals("L64X128MixRandom", generator(8675309L, "L64X128MixRandom").getAlgorithm());
+
+        System.setProperty(ALGORITHM_PROPERTY, "");
+    }
+
+    @Test void unsupportedAlgorithm() {
+        assertThrows(IllegalArgumentException.class, () -> generator(8675309L, "NotAnAlgorithm"));
+    }
+
+    @Test void namedSeeds() {
+        val seed = SharedRandom.deriveSeed(8675309L, "[engine:junit-jupiter]/[class:SomeTest]/[method:testing()]");
+        assertTrue(seed > 0);
+        assertEquals(seed, SharedRandom.deriveSeed(8675309L, "[engine:junit-jupiter]/[class:SomeTest]/[method:testing()]"));
+        assertNotEquals(seed, SharedRandom.deriveSeed(8675309L, "[engine:junit-jupiter]/[class:SomeTest]/[method:other()]"));
+        assertNotEquals(seed, SharedRandom.deriveSeed(42L, "[engine:junit-jupiter]/[class:SomeTest]/[method:testing()]"));
+    }
+
+    @Test void scoped() {
+        val outer = SharedRandom.current();
+
+        final long[] scoped;
+        val scope = SharedRandom.scope(8675309L);
+        try {
+            scoped = genX((SharedRandom) SharedRandom.current(), 5);
+        } finally {
+            scope.close();
+        }
+
+        assertArrayEquals(genX(generator(8675309L), 5), scoped);
+        assertSame(outer, SharedRandom.current());
+    }
+
+    @Test void withSeed() {
+        val outer = SharedRandom.current();
+
+        val supplied = SharedRandom.withSeed(8675309L, () -> genX((SharedRandom) SharedRandom.current(), 5));
+        assertArrayEquals(genX(generator(8675309L), 5), supplied);
+        assertSame(outer, SharedRandom.current());
+
+        val ran = new long[1];
+        SharedRandom.withSeed(8675309L, () -> {
+            ran[0] = SharedRandom.current().nextLong();
+        });
+        assertEquals(supplied[0], ran[0]);
+        assertSame(outer, SharedRandom.current());
+    }
+
     private void assertArraysNotEqual(final long[] a, final long[] b) {
         // should be same length
         assertEquals(a.length, b.length);
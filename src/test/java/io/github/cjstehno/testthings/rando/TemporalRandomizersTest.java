@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2022 Christopher J. Stehno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.cjstehno.testthings.rando;
+
+import io.github.cjstehno.testthings.junit.SharedRandomExtension;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+
+import static io.github.cjstehno.testthings.match.TemporalMatcher.isWeekday;
+import static io.github.cjstehno.testthings.match.TemporalMatcher.isWeekend;
+import static io.github.cjstehno.testthings.rando.TemporalRandomizers.*;
+import static java.time.DayOfWeek.WEDNESDAY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedRandomExtension.class)
+class TemporalRandomizersTest {
+
+    private static final LocalDate MIN_DATE = LocalDate.of(2021, 12, 30);
+    private static final LocalDate MAX_DATE = LocalDate.of(2022, 3, 15);
+
+    @Test void localDates() {
+        val dates = aLocalDateBetween(MIN_DATE, MAX_DATE).many(1000);
+        assertTrue(dates.stream().allMatch(d -> !d.isBefore(MIN_DATE) && d.isBefore(MAX_DATE)));
+        assertEquals(MAX_DATE.toEpochDay() - MIN_DATE.toEpochDay(), new HashSet<>(dates).size());
+    }
+
+    @Test void weekdays() {
+        val dates = aWeekdayBetween(MIN_DATE, MAX_DATE).many(1000);
+        dates.forEach(d -> assertThat(d, isWeekday()));
+        assertTrue(dates.stream().allMatch(d -> !d.isBefore(MIN_DATE) && d.isBefore(MAX_DATE)));
+
+        // every weekday in the range is generated
+        val expected = MIN_DATE.datesUntil(MAX_DATE).filter(d -> d.getDayOfWeek().getValue() < 6).count();
+        assertEquals(expected, new HashSet<>(dates).size());
+    }
+
+    @Test void weekends() {
+        aWeekendDayBetween(MIN_DATE, MAX_DATE).many(1000).forEach(d -> assertThat(d, isWeekend()));
+    }
+
+    @Test void daysOfWeek() {
+        val dates = aLocalDateBetween(LocalDate.of(1950, 1, 1), LocalDate.of(1950, 2, 1), WEDNESDAY).many(100);
+        assertTrue(dates.stream().allMatch(d -> d.getDayOfWeek() == WEDNESDAY && d.getMonthValue() == 1));
+        assertEquals(4, new HashSet<>(dates).size());
+
+        // saturday through monday has no wednesdays
+        assertThrows(IllegalArgumentException.class, () -> aLocalDateBetween(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 1, 4), WEDNESDAY));
+    }
+
+    @Test void localTimes() {
+        val min = LocalTime.of(8, 30);
+        val max = LocalTime.of(9, 15);
+        assertTrue(aLocalTimeBetween(min, max).many(1000).stream().allMatch(t -> !t.isBefore(min) && t.isBefore(max)));
+    }
+
+    @Test void instants() {
+        val min = Instant.parse("2022-01-01T00:00:00Z");
+        val max = Instant.parse("2022-01-02T00:00:00Z");
+        assertTrue(anInstantBetween(min, max).many(1000).stream().allMatch(i -> !i.isBefore(min) && i.isBefore(max)));
+
+        // very wide ranges are sampled in seconds
+        assertTrue(anInstantBetween(Instant.MIN, Instant.MAX).many(100).stream().allMatch(i -> i.getNano() == 0));
+
+        assertThrows(IllegalArgumentException.class, () -> anInstantBetween(max, min));
+    }
+
+    @Test void localDateTimes() {
+        val min = LocalDateTime.of(2022, 1, 1, 12, 0);
+        val max = LocalDateTime.of(2022, 1, 1, 13, 0);
+        assertTrue(aLocalDateTimeBetween(min, max).many(1000).stream().allMatch(t -> !t.isBefore(min) && t.isBefore(max)));
+    }
+
+    @Test void businessDateTimes() {
+        aBusinessDateTimeBetween(MIN_DATE, MAX_DATE).many(1000).forEach(t -> {
+            assertThat(t, isWeekday());
+            assertTrue(t.getHour() >= 9 && t.getHour() < 17);
+        });
+    }
+
+    @Test void durations() {
+        val min = Duration.ofSeconds(5);
+        val max = Duration.ofMinutes(2);
+        assertTrue(aDurationBetween(min, max).many(1000).stream().allMatch(d -> d.compareTo(min) >= 0 && d.compareTo(max) < 0));
+    }
+
+    @Test void monotonic() {
+        val start = Instant.parse("2022-01-01T00:00:00Z");
+        val instants = monotonicInstants(start, Duration.ofMillis(1), Duration.ofSeconds(1)).many(1000);
+        assertEquals(start, instants.get(0));
+        for (int i = 1; i < instants.size(); i++) {
+            assertTrue(instants.get(i).isAfter(instants.get(i - 1)));
+        }
+
+        val millis = monotonicEpochMillis(1_000, 10, 20).manyLongs(1000);
+        assertEquals(1_000, millis[0]);
+        for (int i = 1; i < millis.length; i++) {
+            assertTrue(millis[i] - millis[i - 1] >= 10 && millis[i] - millis[i - 1] < 20);
+        }
+    }
+
+    @Test void pinned() {
+        assertEquals(LocalDate.of(2022, 1, 11), aWeekdayBetween(MIN_DATE, MAX_DATE).one());
+    }
+}